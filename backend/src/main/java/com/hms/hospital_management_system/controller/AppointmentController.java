@@ -1,9 +1,16 @@
 package com.hms.hospital_management_system.controller;
 
+import com.hms.hospital_management_system.dto.AppointmentImportReport;
+import com.hms.hospital_management_system.dto.CursorPage;
+import com.hms.hospital_management_system.dto.DoctorAvailability;
+import com.hms.hospital_management_system.dto.PagedResult;
+import com.hms.hospital_management_system.dto.RecurringAppointmentRequest;
+import com.hms.hospital_management_system.dto.RecurringSeriesResult;
 import com.hms.hospital_management_system.entity.Appointment;
 import com.hms.hospital_management_system.entity.Appointment.AppointmentStatus;
 import com.hms.hospital_management_system.entity.User;
 import com.hms.hospital_management_system.security.CustomUserDetails;
+import com.hms.hospital_management_system.service.AppointmentImportService;
 import com.hms.hospital_management_system.service.AppointmentService;
 import com.hms.hospital_management_system.service.AuditLogService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,10 +18,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -28,6 +37,7 @@ public class AppointmentController {
 
     private final AppointmentService appointmentService;
     private final AuditLogService auditLogService;
+    private final AppointmentImportService appointmentImportService;
 
     private User getCurrentUser() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -47,29 +57,66 @@ public class AppointmentController {
         auditLogService.logAction(userId, username, role, action, "Appointment", entityId, details, ipAddress);
     }
 
+    // view=summary returns AppointmentSummary rows (names instead of nested entities)
+    private static boolean isSummaryView(String view) {
+        return "summary".equalsIgnoreCase(view);
+    }
+
     @GetMapping
-    public ResponseEntity<List<Appointment>> getAllAppointments() {
+    public ResponseEntity<List<?>> getAllAppointments(@RequestParam(defaultValue = "full") String view) {
         User currentUser = getCurrentUser();
         // If user is a doctor, only return their appointments
         if (currentUser != null && currentUser.getRole() == User.Role.DOCTOR && currentUser.getDoctorId() != null) {
+            if (isSummaryView(view)) {
+                return ResponseEntity.ok(appointmentService.getAppointmentSummaries(currentUser.getDoctorId(), null, null));
+            }
             return ResponseEntity.ok(appointmentService.getAppointmentsByDoctor(currentUser.getDoctorId()));
         }
         // If user is a patient, only return their appointments
         if (currentUser != null && currentUser.getRole() == User.Role.PATIENT && currentUser.getPatientId() != null) {
+            if (isSummaryView(view)) {
+                return ResponseEntity.ok(appointmentService.getAppointmentSummaries(null, currentUser.getPatientId(), null));
+            }
             return ResponseEntity.ok(appointmentService.getAppointmentsByPatient(currentUser.getPatientId()));
         }
+        if (isSummaryView(view)) {
+            return ResponseEntity.ok(appointmentService.getAppointmentSummaries(null, null, null));
+        }
         return ResponseEntity.ok(appointmentService.getAllAppointments());
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<?> scrollAppointments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        User currentUser = getCurrentUser();
+        Long doctorId = null;
+        Long patientId = null;
+        if (currentUser != null && currentUser.getRole() == User.Role.DOCTOR && currentUser.getDoctorId() != null) {
+            doctorId = currentUser.getDoctorId();
+        }
+        if (currentUser != null && currentUser.getRole() == User.Role.PATIENT && currentUser.getPatientId() != null) {
+            patientId = currentUser.getPatientId();
+        }
+        try {
+            CursorPage<Appointment> page = appointmentService.getAppointmentsPage(doctorId, patientId, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/filter")
-    public ResponseEntity<List<Appointment>> filterAppointments(
+    public ResponseEntity<PagedResult<Appointment>> filterAppointments(
             @RequestParam(required = false) AppointmentStatus status,
             @RequestParam(required = false) Long doctorId,
             @RequestParam(required = false) Long patientId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String sortOrder) {
+            @RequestParam(required = false) String sortOrder,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         User currentUser = getCurrentUser();
         if (currentUser != null && currentUser.getRole() == User.Role.DOCTOR && currentUser.getDoctorId() != null) {
             doctorId = currentUser.getDoctorId();
@@ -77,8 +124,8 @@ public class AppointmentController {
         if (currentUser != null && currentUser.getRole() == User.Role.PATIENT && currentUser.getPatientId() != null) {
             patientId = currentUser.getPatientId();
         }
-        return ResponseEntity.ok(appointmentService.filterAppointments(status, doctorId, patientId, startDate, endDate,
-                sortBy, sortOrder));
+        return ResponseEntity.ok(PagedResult.of(appointmentService.filterAppointments(status, doctorId, patientId,
+                startDate, endDate, sortBy, sortOrder, page, size)));
     }
 
     @GetMapping("/{id}")
@@ -94,13 +141,21 @@ public class AppointmentController {
     }
 
     @GetMapping("/doctor/{doctorId}")
-    public ResponseEntity<List<Appointment>> getAppointmentsByDoctor(@PathVariable Long doctorId) {
+    public ResponseEntity<List<?>> getAppointmentsByDoctor(@PathVariable Long doctorId,
+            @RequestParam(defaultValue = "full") String view) {
+        if (isSummaryView(view)) {
+            return ResponseEntity.ok(appointmentService.getAppointmentSummaries(doctorId, null, null));
+        }
         return ResponseEntity.ok(appointmentService.getAppointmentsByDoctor(doctorId));
     }
 
     @GetMapping("/date/{date}")
-    public ResponseEntity<List<Appointment>> getAppointmentsByDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+    public ResponseEntity<List<?>> getAppointmentsByDate(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "full") String view) {
+        if (isSummaryView(view)) {
+            return ResponseEntity.ok(appointmentService.getAppointmentSummaries(null, null, date));
+        }
         return ResponseEntity.ok(appointmentService.getAppointmentsByDate(date));
     }
 
@@ -135,6 +190,47 @@ public class AppointmentController {
         return ResponseEntity.ok(appointmentService.getAvailableTimeSlots(doctorId, date));
     }
 
+    /**
+     * Free slots for several doctors over a date range in one response; doctors
+     * are given by id or selected by department and/or specialization.
+     */
+    @GetMapping("/available-slots/batch")
+    public ResponseEntity<?> getAvailability(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) String specialization,
+            @RequestParam(required = false) List<Long> doctorIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            List<DoctorAvailability> availability =
+                    appointmentService.getAvailability(departmentId, specialization, doctorIds, startDate, endDate);
+            return ResponseEntity.ok(availability);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Earliest free slot with any doctor selected by id, department and/or
+     * specialization, searched from now up to {@code horizonDays} ahead.
+     */
+    @GetMapping("/next-available")
+    public ResponseEntity<?> findNextAvailable(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) String specialization,
+            @RequestParam(required = false) List<Long> doctorIds,
+            @RequestParam(required = false) Integer durationMinutes,
+            @RequestParam(defaultValue = "14") int horizonDays) {
+        try {
+            return appointmentService
+                    .findNextAvailable(departmentId, specialization, doctorIds, durationMinutes, horizonDays)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/check-availability")
     public ResponseEntity<Map<String, Boolean>> checkTimeSlotAvailability(
             @RequestParam Long doctorId,
@@ -163,6 +259,40 @@ public class AppointmentController {
         }
     }
 
+    @PostMapping("/series")
+    public ResponseEntity<?> bookRecurringSeries(
+            @RequestBody RecurringAppointmentRequest seriesRequest,
+            HttpServletRequest request) {
+        try {
+            RecurringSeriesResult result = appointmentService.bookRecurringSeries(seriesRequest);
+            if (result.getBooked() == 0) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+            }
+            logAction("CREATE", result.getSeriesId(), "Booked " + result.getBooked() + " of "
+                    + result.getRequested() + " occurrences of a " + seriesRequest.getFrequency()
+                    + " series for patient " + seriesRequest.getPatientId()
+                    + " with doctor " + seriesRequest.getDoctorId(), request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = { "application/x-ndjson", "text/csv" })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> importAppointments(HttpServletRequest request) {
+        AppointmentImportService.Format format = request.getContentType().startsWith("text/csv")
+                ? AppointmentImportService.Format.CSV : AppointmentImportService.Format.NDJSON;
+        try {
+            AppointmentImportReport report = appointmentImportService.importAppointments(request.getInputStream(), format);
+            logAction("IMPORT", null, "Imported " + report.getImported() + " of " + report.getTotalRows()
+                    + " appointments (" + format + ")", request);
+            return ResponseEntity.ok(report);
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Appointment> updateAppointment(
             @PathVariable Long id,
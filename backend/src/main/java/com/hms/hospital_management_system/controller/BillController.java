@@ -1,17 +1,20 @@
 package com.hms.hospital_management_system.controller;
 
+import com.hms.hospital_management_system.dto.CursorPage;
 import com.hms.hospital_management_system.entity.Bill;
 import com.hms.hospital_management_system.entity.Bill.PaymentStatus;
 import com.hms.hospital_management_system.entity.Bill.PaymentMethod;
 import com.hms.hospital_management_system.entity.User;
 import com.hms.hospital_management_system.security.CustomUserDetails;
 import com.hms.hospital_management_system.service.BillService;
+import com.hms.hospital_management_system.service.RevenueRollupService;
 import com.hms.hospital_management_system.util.AuditHelper;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -29,6 +32,7 @@ public class BillController {
 
     private final BillService billService;
     private final AuditHelper auditHelper;
+    private final RevenueRollupService revenueRollupService;
 
     private User getCurrentUser() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -48,6 +52,23 @@ public class BillController {
         return ResponseEntity.ok(billService.getAllBills());
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<?> scrollBills(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        User currentUser = getCurrentUser();
+        Long patientId = null;
+        if (currentUser != null && currentUser.getRole() == User.Role.PATIENT && currentUser.getPatientId() != null) {
+            patientId = currentUser.getPatientId();
+        }
+        try {
+            CursorPage<Bill> page = billService.getBillsPage(patientId, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/filter")
     public ResponseEntity<List<Bill>> filterBills(
             @RequestParam(required = false) PaymentStatus status,
@@ -109,6 +130,18 @@ public class BillController {
         return ResponseEntity.ok(revenue);
     }
 
+    // Rebuilds the daily revenue rollup from the bills; the whole history when no range is given
+    @PostMapping("/revenue/rollup/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildRevenueRollup(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return ResponseEntity.ok(revenueRollupService.rebuildAll());
+        }
+        return ResponseEntity.ok(revenueRollupService.rebuild(startDate, endDate));
+    }
+
     @PostMapping
     public ResponseEntity<Bill> createBill(@RequestBody Bill bill, @RequestParam Long patientId,
             HttpServletRequest request) {
@@ -1,17 +1,32 @@
 package com.hms.hospital_management_system.controller;
 
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.hms.hospital_management_system.dto.CounterReconciliationReport;
 import com.hms.hospital_management_system.dto.DashboardStats;
+import com.hms.hospital_management_system.dto.PatientDemographics;
 import com.hms.hospital_management_system.entity.User;
 import com.hms.hospital_management_system.security.CustomUserDetails;
+import com.hms.hospital_management_system.service.DashboardCounterService;
 import com.hms.hospital_management_system.service.DashboardService;
+import com.hms.hospital_management_system.service.DashboardSnapshotCache;
+import com.hms.hospital_management_system.service.DashboardStreamService;
+import com.hms.hospital_management_system.service.PatientDemographicsService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,6 +37,10 @@ import lombok.RequiredArgsConstructor;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardCounterService dashboardCounterService;
+    private final DashboardSnapshotCache snapshotCache;
+    private final DashboardStreamService dashboardStreamService;
+    private final PatientDemographicsService patientDemographicsService;
 
     private User getCurrentUser() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -44,4 +63,35 @@ public class DashboardController {
         }
         return ResponseEntity.ok(dashboardService.getDashboardStats());
     }
+
+    @PostMapping("/counters/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CounterReconciliationReport> reconcileCounters() {
+        return ResponseEntity.ok(dashboardCounterService.reconcile());
+    }
+
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(snapshotCache.getStats());
+    }
+
+    /**
+     * Live admin dashboard: a "snapshot" event with the full stats, then
+     * "delta" events as appointments and bills change.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter streamDashboard() {
+        return dashboardStreamService.subscribe();
+    }
+
+    @GetMapping("/demographics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PatientDemographics> getDemographics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long departmentId) {
+        return ResponseEntity.ok(patientDemographicsService.getAgeBands(startDate, endDate, departmentId));
+    }
 }
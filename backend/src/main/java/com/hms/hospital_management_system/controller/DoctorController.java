@@ -9,11 +9,13 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/doctors")
@@ -117,6 +119,24 @@ public class DoctorController {
         }
     }
 
+    // Null fields fall back to the default 09:00-17:00 day in 30-minute slots
+    @PutMapping("/{id}/working-hours")
+    @PreAuthorize("hasAnyRole('ADMIN', 'DOCTOR')")
+    public ResponseEntity<?> updateWorkingHours(@PathVariable Long id, @RequestBody Doctor hours,
+            HttpServletRequest request) {
+        User currentUser = getCurrentUser();
+        if (currentUser != null && currentUser.getRole() == User.Role.DOCTOR && !id.equals(currentUser.getDoctorId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            Doctor updatedDoctor = doctorService.updateWorkingHours(id, hours);
+            auditHelper.logUpdate("Doctor", id.toString(), "Updated working hours", request);
+            return ResponseEntity.ok(updatedDoctor);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}/department/{departmentId}")
     public ResponseEntity<Doctor> assignDepartment(@PathVariable Long id, @PathVariable Long departmentId,
             HttpServletRequest request) {
@@ -1,5 +1,6 @@
 package com.hms.hospital_management_system.controller;
 
+import com.hms.hospital_management_system.dto.CursorPage;
 import com.hms.hospital_management_system.entity.MedicalRecord;
 import com.hms.hospital_management_system.entity.User;
 import com.hms.hospital_management_system.security.CustomUserDetails;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/medical-records")
@@ -56,6 +58,27 @@ public class MedicalRecordController {
         return ResponseEntity.ok(medicalRecordService.getAllMedicalRecords());
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<?> scrollMedicalRecords(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        User currentUser = getCurrentUser();
+        Long doctorId = null;
+        Long patientId = null;
+        if (currentUser != null && currentUser.getRole() == User.Role.DOCTOR && currentUser.getDoctorId() != null) {
+            doctorId = currentUser.getDoctorId();
+        }
+        if (currentUser != null && currentUser.getRole() == User.Role.PATIENT && currentUser.getPatientId() != null) {
+            patientId = currentUser.getPatientId();
+        }
+        try {
+            CursorPage<MedicalRecord> page = medicalRecordService.getMedicalRecordsPage(doctorId, patientId, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MedicalRecord> getMedicalRecordById(@PathVariable Long id) {
         return medicalRecordService.getMedicalRecordById(id)
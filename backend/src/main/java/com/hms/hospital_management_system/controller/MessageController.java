@@ -1,6 +1,7 @@
 package com.hms.hospital_management_system.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -12,8 +13,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.hms.hospital_management_system.dto.CursorPage;
 import com.hms.hospital_management_system.dto.MessageDTO;
 import com.hms.hospital_management_system.dto.MessageDTO.ConversationDTO;
 import com.hms.hospital_management_system.dto.MessageDTO.SendMessageRequest;
@@ -63,6 +66,20 @@ public class MessageController {
         return ResponseEntity.ok(messageService.getConversation(userId, partnerId));
     }
 
+    @GetMapping("/conversation/{partnerId}/page")
+    public ResponseEntity<?> getConversationPage(@PathVariable Long partnerId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        Long userId = getCurrentUserId();
+        try {
+            CursorPage<MessageDTO> page = messageService.getConversationPage(userId, partnerId, before, after, size);
+            return ResponseEntity.ok(page);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/unread/count")
     public ResponseEntity<Long> getUnreadCount() {
         Long userId = getCurrentUserId();
@@ -77,10 +94,9 @@ public class MessageController {
     }
 
     @PutMapping("/conversation/{partnerId}/read")
-    public ResponseEntity<Void> markConversationAsRead(@PathVariable Long partnerId) {
+    public ResponseEntity<Map<String, Integer>> markConversationAsRead(@PathVariable Long partnerId) {
         Long userId = getCurrentUserId();
-        messageService.markConversationAsRead(userId, partnerId);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(Map.of("updated", messageService.markConversationAsRead(userId, partnerId)));
     }
 
     @GetMapping("/contacts")
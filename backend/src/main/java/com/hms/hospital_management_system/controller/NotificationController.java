@@ -5,7 +5,9 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -16,12 +18,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.hms.hospital_management_system.dto.BroadcastRequest;
+import com.hms.hospital_management_system.dto.CursorPage;
+import com.hms.hospital_management_system.dto.NotificationArchiveReport;
 import com.hms.hospital_management_system.entity.Notification;
 import com.hms.hospital_management_system.entity.Notification.NotificationType;
 import com.hms.hospital_management_system.security.CustomUserDetails;
+import com.hms.hospital_management_system.service.NotificationRetentionService;
 import com.hms.hospital_management_system.service.NotificationService;
+import com.hms.hospital_management_system.service.UnreadCounterService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,6 +41,8 @@ import lombok.RequiredArgsConstructor;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final UnreadCounterService unreadCounterService;
+    private final NotificationRetentionService notificationRetentionService;
 
     private Long getCurrentUserId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -42,12 +53,35 @@ public class NotificationController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Notification>> getMyNotifications() {
+    public ResponseEntity<List<Notification>> getMyNotifications(@RequestParam(defaultValue = "50") int size) {
         Long userId = getCurrentUserId();
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        return ResponseEntity.ok(notificationService.getNotificationsByUser(userId));
+        return ResponseEntity.ok(notificationService.getNotificationsByUser(userId, size));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<?> scrollMyNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        Long userId = getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            CursorPage<Notification> page = notificationService.getNotificationsPage(userId, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Moves read notifications past the retention window to the archive table
+    @PostMapping("/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<NotificationArchiveReport> archiveNotifications() {
+        return ResponseEntity.ok(notificationRetentionService.archive());
     }
 
     @GetMapping("/unread")
@@ -70,6 +104,19 @@ public class NotificationController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Unread notification and message counts: a "counts" event on connect and
+     * again whenever either count changes.
+     */
+    @GetMapping(value = "/unread/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUnreadCounts() {
+        Long userId = getCurrentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(unreadCounterService.subscribe(userId));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Notification> getNotificationById(@PathVariable Long id) {
         return notificationService.getNotificationById(id)
@@ -93,19 +140,29 @@ public class NotificationController {
                 .body(notificationService.createNotification(userId, title, message, type, referenceType, referenceId));
     }
 
+    @PostMapping("/broadcast")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> broadcastNotification(@RequestBody BroadcastRequest request) {
+        try {
+            int recipients = notificationService.broadcastNotification(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("recipients", recipients));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @PutMapping("/{id}/read")
     public ResponseEntity<Notification> markAsRead(@PathVariable Long id) {
         return ResponseEntity.ok(notificationService.markAsRead(id));
     }
 
     @PutMapping("/read-all")
-    public ResponseEntity<Void> markAllAsRead() {
+    public ResponseEntity<Map<String, Integer>> markAllAsRead() {
         Long userId = getCurrentUserId();
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        notificationService.markAllAsRead(userId);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(Map.of("updated", notificationService.markAllAsRead(userId)));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,118 @@
+package com.hms.hospital_management_system.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hms.hospital_management_system.dto.WaitlistMetrics;
+import com.hms.hospital_management_system.dto.WaitlistRequest;
+import com.hms.hospital_management_system.entity.User;
+import com.hms.hospital_management_system.entity.WaitlistEntry;
+import com.hms.hospital_management_system.security.CustomUserDetails;
+import com.hms.hospital_management_system.service.WaitlistService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:5174", "http://localhost:3000"})
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    private User getCurrentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails) {
+            return ((CustomUserDetails) auth.getPrincipal()).getUser();
+        }
+        return null;
+    }
+
+    // Patients may only see and change their own entries
+    private boolean isOtherPatient(User currentUser, Long patientId) {
+        return currentUser != null && currentUser.getRole() == User.Role.PATIENT
+                && !patientId.equals(currentUser.getPatientId());
+    }
+
+    @PostMapping
+    public ResponseEntity<?> joinWaitlist(@RequestBody WaitlistRequest request) {
+        User currentUser = getCurrentUser();
+        // Patients can only add themselves, at the default priority
+        if (currentUser != null && currentUser.getRole() == User.Role.PATIENT) {
+            request.setPatientId(currentUser.getPatientId());
+            request.setPriority(null);
+        }
+        try {
+            WaitlistEntry entry = waitlistService.addToWaitlist(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(entry);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/doctor/{doctorId}")
+    public ResponseEntity<List<WaitlistEntry>> getQueue(
+            @PathVariable Long doctorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(waitlistService.getQueue(doctorId, date));
+    }
+
+    @GetMapping("/my")
+    public ResponseEntity<List<WaitlistEntry>> getMyEntries() {
+        User currentUser = getCurrentUser();
+        if (currentUser == null || currentUser.getPatientId() == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(waitlistService.getPatientEntries(currentUser.getPatientId()));
+    }
+
+    @GetMapping("/patient/{patientId}")
+    public ResponseEntity<List<WaitlistEntry>> getPatientEntries(@PathVariable Long patientId) {
+        if (isOtherPatient(getCurrentUser(), patientId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(waitlistService.getPatientEntries(patientId));
+    }
+
+    @PutMapping("/{id}/cancel")
+    public ResponseEntity<?> cancelEntry(@PathVariable Long id) {
+        User currentUser = getCurrentUser();
+        if (currentUser != null && currentUser.getRole() == User.Role.PATIENT) {
+            WaitlistEntry entry = waitlistService.getEntry(id).orElse(null);
+            if (entry == null) {
+                return ResponseEntity.notFound().build();
+            }
+            if (isOtherPatient(currentUser, entry.getPatient().getId())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+        }
+        try {
+            return ResponseEntity.ok(waitlistService.cancelEntry(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/metrics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<WaitlistMetrics> getMetrics() {
+        return ResponseEntity.ok(waitlistService.getMetrics());
+    }
+}
@@ -0,0 +1,49 @@
+package com.hms.hospital_management_system.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a bulk appointment import: totals, throughput and one result
+ * per input row, keyed by its line number in the uploaded file.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentImportReport {
+
+    private int totalRows;
+    private int imported;
+    private int rejected;
+    private long durationMs;
+    private double rowsPerSecond;
+    private List<RowResult> rows;
+
+    public enum Outcome {
+        IMPORTED, REJECTED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowResult {
+        private int line;
+        private Outcome outcome;
+        private Long appointmentId; // set when imported
+        private String error;       // set when rejected
+
+        public static RowResult imported(int line, Long appointmentId) {
+            return new RowResult(line, Outcome.IMPORTED, appointmentId, null);
+        }
+
+        public static RowResult rejected(int line, String error) {
+            return new RowResult(line, Outcome.REJECTED, null, error);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.hms.hospital_management_system.dto;
+
+import com.hms.hospital_management_system.entity.Notification.NotificationType;
+import com.hms.hospital_management_system.entity.User.Role;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A notification for every active user with the given role, in the given
+ * department, or both. At least one of the two must be set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastRequest {
+
+    private Role role;
+    private Long departmentId;
+    private String title;
+    private String message;
+    private NotificationType type;
+    private String referenceType;
+    private Long referenceId;
+}
@@ -0,0 +1,34 @@
+package com.hms.hospital_management_system.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterReconciliationReport {
+
+    private LocalDateTime reconciledAt;
+    private Integer countersChecked;
+    private Integer countersDrifted;
+    private Long durationMs;
+    private List<CounterDrift> drifts;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CounterDrift {
+        private String name;
+        private Long storedValue;
+        private Long actualValue;
+        private Double storedAmount;
+        private Double actualAmount;
+    }
+}
@@ -0,0 +1,42 @@
+package com.hms.hospital_management_system.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.hms.hospital_management_system.dto.DashboardStats.RecentAppointment;
+import com.hms.hospital_management_system.event.AppointmentChangedEvent.ChangeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Incremental update pushed on the live dashboard stream after the initial
+ * {@link DashboardStats} snapshot.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDelta {
+
+    private DeltaType type;
+    private LocalDateTime at;
+
+    // COUNTERS: new values of the summary fields that changed, keyed by DashboardStats field name
+    private Map<String, Object> changes;
+
+    // APPOINTMENT_UPSERT: the row to add to or replace in the recent appointments list
+    private RecentAppointment appointment;
+
+    // APPOINTMENT_UPSERT: CREATED rows are new and go on top; others only replace a row already listed
+    private ChangeType changeType;
+
+    // APPOINTMENT_REMOVED: the row to drop from the recent appointments list
+    private Long appointmentId;
+
+    public enum DeltaType {
+        COUNTERS, APPOINTMENT_UPSERT, APPOINTMENT_REMOVED
+    }
+}
@@ -8,7 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class DashboardStats {
@@ -38,6 +38,9 @@ public class DashboardStats {
     private List<RecentAppointment> recentAppointments;
     private List<DoctorScheduleInfo> doctorSchedules;
     
+    // Sections that timed out or failed and were served from their last good value
+    private List<String> staleSections;
+    
     @Data
     @Builder
     @NoArgsConstructor
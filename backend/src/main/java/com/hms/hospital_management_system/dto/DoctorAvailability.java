@@ -0,0 +1,35 @@
+package com.hms.hospital_management_system.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A doctor's free appointment slots for each day of a requested range.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorAvailability {
+
+    private Long doctorId;
+    private String doctorName;
+    private String specialization;
+    private Integer slotMinutes;
+    private List<DayAvailability> days;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DayAvailability {
+        private LocalDate date;
+        private List<LocalTime> slots;
+    }
+}
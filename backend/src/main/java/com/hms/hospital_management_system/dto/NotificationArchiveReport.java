@@ -0,0 +1,22 @@
+package com.hms.hospital_management_system.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationArchiveReport {
+
+    private LocalDateTime archivedAt;
+    private LocalDateTime cutoff;
+    private Long rowsMoved;
+    private Integer chunks;
+    private Long durationMs;
+    private Long rowsPerSecond;
+}
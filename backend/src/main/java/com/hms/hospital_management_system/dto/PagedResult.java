@@ -0,0 +1,30 @@
+package com.hms.hospital_management_system.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of an offset-paginated listing, in a fixed JSON shape rather than
+ * a serialized {@link Page}. {@code number} is zero-based.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PagedResult<T> {
+
+    private List<T> content;
+    private long totalElements;
+    private int totalPages;
+    private int number;
+    private int size;
+
+    public static <T> PagedResult<T> of(Page<T> page) {
+        return new PagedResult<>(page.getContent(), page.getTotalElements(), page.getTotalPages(),
+                page.getNumber(), page.getSize());
+    }
+}
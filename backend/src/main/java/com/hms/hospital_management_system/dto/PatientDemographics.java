@@ -0,0 +1,49 @@
+package com.hms.hospital_management_system.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Appointments in a date range broken down by the patient's age at the
+ * appointment, per day and in total.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatientDemographics {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long departmentId; // null when covering every department
+    private AgeBands totals;
+    private List<DailyAgeBands> days;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AgeBands {
+        private Long child;
+        private Long adult;
+        private Long elderly;
+        private Long total;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyAgeBands {
+        private LocalDate date;
+        private Long child;
+        private Long adult;
+        private Long elderly;
+        private Long total;
+    }
+}
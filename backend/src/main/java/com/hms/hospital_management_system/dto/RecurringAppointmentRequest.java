@@ -0,0 +1,47 @@
+package com.hms.hospital_management_system.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A standing appointment: the same doctor and time every week or every other
+ * week from {@code startDate}, for {@code count} occurrences or until
+ * {@code until} (inclusive), whichever is given.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringAppointmentRequest {
+
+    private Long patientId;
+    private Long doctorId;
+    private LocalDate startDate;
+    private LocalTime appointmentTime;
+    private Frequency frequency;
+    private Integer count;
+    private LocalDate until;
+    private String reason;
+    private String notes;
+    // Book the free occurrences even if others conflict; otherwise book none
+    private boolean allowPartial;
+
+    public enum Frequency {
+        WEEKLY(1), BIWEEKLY(2);
+
+        private final int weeks;
+
+        Frequency(int weeks) {
+            this.weeks = weeks;
+        }
+
+        public int getWeeks() {
+            return weeks;
+        }
+    }
+}
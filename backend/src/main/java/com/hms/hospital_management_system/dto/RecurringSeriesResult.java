@@ -0,0 +1,42 @@
+package com.hms.hospital_management_system.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of booking a recurring series, one entry per occurrence.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringSeriesResult {
+
+    private String seriesId; // null when nothing was booked
+    private int requested;
+    private int booked;
+    private int conflicts;
+    private List<Occurrence> occurrences;
+
+    public enum Outcome {
+        BOOKED, CONFLICT, NOT_BOOKED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Occurrence {
+        private LocalDate date;
+        private LocalTime time;
+        private Outcome outcome;
+        private Long appointmentId;      // set when booked
+        private LocalTime conflictingTime; // start of the overlapping booking, on conflict
+    }
+}
@@ -0,0 +1,7 @@
+package com.hms.hospital_management_system.dto;
+
+/**
+ * A user's unread notification and message counts, as shown in the sidebar.
+ */
+public record UnreadCounts(long notifications, long messages) {
+}
@@ -0,0 +1,32 @@
+package com.hms.hospital_management_system.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Waitlist backfill counters since {@code since} (application start).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistMetrics {
+
+    private LocalDateTime since;
+    private long waitingEntries;
+    private long releasedSlots;     // future slots freed by a cancellation, no-show or delete
+    private long filledSlots;       // released slots booked for a waitlisted patient
+    private long noCandidate;       // released slots nobody on the waitlist could take
+    private long alreadyRebooked;   // released slots booked by someone else before the backfill ran
+    private long pastSlots;         // released slots already started, not offered
+    private long failedBackfills;    // backfills that threw, or were rejected because the queue was full
+    private long pendingBackfills;
+    private double fillRate;        // filledSlots / releasedSlots
+    private double fillsPerSecond;  // filledSlots over the time since start
+    private double averageFillMillis; // commit of the release to commit of the waitlist booking
+    private long maxFillMillis;
+}
@@ -0,0 +1,24 @@
+package com.hms.hospital_management_system.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistRequest {
+
+    private Long patientId;
+    private Long doctorId;
+    private LocalDate date;
+    private LocalTime earliestTime;
+    private LocalTime latestTime;
+    private Integer priority;
+    private String reason;
+}
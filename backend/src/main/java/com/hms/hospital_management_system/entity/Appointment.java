@@ -14,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -25,7 +26,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "appointment")
+@Table(name = "appointment", indexes = {
+        @Index(name = "idx_appointment_created_at", columnList = "created_at"),
+        @Index(name = "idx_appointment_date_doctor_patient", columnList = "appointment_date, doctor_id, patient_id"),
+        @Index(name = "idx_appointment_doctor_date", columnList = "doctor_id, appointment_date"),
+        @Index(name = "idx_appointment_date_id", columnList = "appointment_date, id"),
+        @Index(name = "idx_appointment_patient_date", columnList = "patient_id, appointment_date, id"),
+        @Index(name = "idx_appointment_series", columnList = "series_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -63,6 +71,10 @@ public class Appointment {
     @Column(length = 1000)
     private String notes;
 
+    // Shared by the occurrences of a recurring series; null for one-off appointments
+    @Column(name = "series_id", length = 36)
+    private String seriesId;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
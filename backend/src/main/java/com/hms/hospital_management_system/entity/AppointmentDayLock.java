@@ -0,0 +1,51 @@
+package com.hms.hospital_management_system.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per doctor and day that has ever been booked. A booking transaction
+ * takes the row lock of its doctor's day before checking for conflicts, so
+ * bookings for the same doctor and day run one after another while all other
+ * bookings proceed in parallel, across every application instance.
+ */
+@Entity
+@Table(name = "appointment_day_lock", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_appointment_day_lock_doctor_date", columnNames = {"doctor_id", "lock_date"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AppointmentDayLock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "doctor_id", nullable = false)
+    private Long doctorId;
+
+    @Column(name = "lock_date", nullable = false)
+    private LocalDate lockDate;
+
+    // Number of booking transactions that took the lock
+    @Column(name = "lock_count", nullable = false)
+    @Builder.Default
+    private Long lockCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
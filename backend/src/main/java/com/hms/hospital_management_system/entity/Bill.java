@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -22,7 +23,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "bill")
+@Table(name = "bill", indexes = {
+        @Index(name = "idx_bill_status_date", columnList = "payment_status, bill_date"),
+        @Index(name = "idx_bill_date_id", columnList = "bill_date, id"),
+        @Index(name = "idx_bill_patient_date", columnList = "patient_id, bill_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,52 @@
+package com.hms.hospital_management_system.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pre-aggregated dashboard tile, maintained incrementally by the write paths.
+ * Each row tracks a row count and, where relevant, a money total (e.g. paid revenue).
+ */
+@Entity
+@Table(name = "dashboard_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardCounter {
+
+    @Id
+    @Column(name = "counter_name", length = 60)
+    private String name;
+
+    @Column(name = "counter_value", nullable = false)
+    @Builder.Default
+    private Long value = 0L;
+
+    @Column(name = "amount_total", nullable = false)
+    @Builder.Default
+    private Double amount = 0.0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
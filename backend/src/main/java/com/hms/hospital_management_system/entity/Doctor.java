@@ -1,6 +1,7 @@
 package com.hms.hospital_management_system.entity;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -65,6 +66,16 @@ public class Doctor {
     @Column(name = "years_of_experience")
     private Integer yearsOfExperience;
 
+    // Bookable hours and appointment slot length; null falls back to 09:00-17:00 in 30-minute slots
+    @Column(name = "work_start_time")
+    private LocalTime workStartTime;
+
+    @Column(name = "work_end_time")
+    private LocalTime workEndTime;
+
+    @Column(name = "slot_minutes")
+    private Integer slotMinutes;
+
     @OneToMany(mappedBy = "doctor", cascade = CascadeType.ALL)
     @JsonIgnoreProperties({"doctor", "patient", "hibernateLazyInitializer", "handler"})
     private List<Appointment> appointments;
@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -20,7 +21,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "medical_record")
+@Table(name = "medical_record", indexes = {
+        @Index(name = "idx_medical_record_date_id", columnList = "record_date, id"),
+        @Index(name = "idx_medical_record_patient_date", columnList = "patient_id, record_date, id"),
+        @Index(name = "idx_medical_record_doctor_date", columnList = "doctor_id, record_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -18,7 +19,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "message")
+@Table(name = "message", indexes = {
+        @Index(name = "idx_message_receiver_read", columnList = "receiver_id, is_read"),
+        @Index(name = "idx_message_sender_receiver_sent", columnList = "sender_id, receiver_id, sent_at, id"),
+        @Index(name = "idx_message_receiver_sender_sent", columnList = "receiver_id, sender_id, sent_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,56 @@
+package com.hms.hospital_management_system.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Paid revenue rolled up per bill date and payment method, so revenue over a
+ * date range is read from one row per day and method instead of every bill.
+ * Maintained by {@code RevenueRollupService} on the billing write paths.
+ */
+@Entity
+@Table(name = "revenue_daily", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_revenue_daily_date_method", columnNames = {"revenue_date", "payment_method"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevenueDaily {
+
+    // Stored for bills paid without a recorded payment method
+    public static final String UNSPECIFIED_METHOD = "UNSPECIFIED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "revenue_date", nullable = false)
+    private LocalDate revenueDate;
+
+    @Column(name = "payment_method", nullable = false, length = 30)
+    private String paymentMethod;
+
+    @Column(name = "paid_amount", nullable = false)
+    @Builder.Default
+    private Double paidAmount = 0.0;
+
+    @Column(name = "bill_count", nullable = false)
+    @Builder.Default
+    private Long billCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
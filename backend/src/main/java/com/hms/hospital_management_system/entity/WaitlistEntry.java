@@ -0,0 +1,112 @@
+package com.hms.hospital_management_system.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A patient waiting for a slot with a doctor on a given day, optionally within
+ * a time window. Entries are served by priority (higher first), then by the
+ * time they were added.
+ */
+@Entity
+@Table(name = "waitlist_entry", indexes = {
+        @Index(name = "idx_waitlist_queue", columnList = "doctor_id, waitlist_date, status, priority, created_at"),
+        @Index(name = "idx_waitlist_patient", columnList = "patient_id, status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "patient_id", nullable = false)
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+    private Patient patient;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "doctor_id", nullable = false)
+    @JsonIgnoreProperties({"appointments", "department", "hibernateLazyInitializer", "handler"})
+    private Doctor doctor;
+
+    @Column(name = "waitlist_date", nullable = false)
+    private LocalDate waitlistDate;
+
+    // Acceptable start times; null means any time that day
+    @Column(name = "earliest_time")
+    private LocalTime earliestTime;
+
+    @Column(name = "latest_time")
+    private LocalTime latestTime;
+
+    @Column(nullable = false)
+    private Integer priority;
+
+    @Column(length = 500)
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private WaitlistStatus status;
+
+    public enum WaitlistStatus {
+        WAITING, BOOKED, CANCELLED
+    }
+
+    // The appointment created when a released slot was assigned to this entry
+    @Column(name = "appointment_id")
+    private Long appointmentId;
+
+    @Column(name = "booked_at")
+    private LocalDateTime bookedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (status == null) {
+            status = WaitlistStatus.WAITING;
+        }
+        if (priority == null) {
+            priority = 0;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
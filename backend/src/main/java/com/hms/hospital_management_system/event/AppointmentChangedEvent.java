@@ -0,0 +1,20 @@
+package com.hms.hospital_management_system.event;
+
+import com.hms.hospital_management_system.entity.Appointment;
+
+/**
+ * Published by AppointmentService whenever an appointment is created, updated,
+ * has its status changed or is deleted.
+ */
+public record AppointmentChangedEvent(ChangeType changeType, Long appointmentId, Long doctorId, Long patientId) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+
+    public static AppointmentChangedEvent of(ChangeType changeType, Appointment appointment) {
+        return new AppointmentChangedEvent(changeType, appointment.getId(),
+                appointment.getDoctor() != null ? appointment.getDoctor().getId() : null,
+                appointment.getPatient() != null ? appointment.getPatient().getId() : null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.hms.hospital_management_system.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Published by AppointmentService when an active appointment is cancelled,
+ * marked as a no-show, moved to another date or time, or deleted, freeing its
+ * slot for someone else. For a move, date and time are those of the old slot.
+ */
+public record AppointmentSlotReleasedEvent(Long appointmentId, Long doctorId, LocalDate date, LocalTime time) {
+}
@@ -0,0 +1,11 @@
+package com.hms.hospital_management_system.event;
+
+import java.util.Set;
+
+/**
+ * Published once per batch of appointments created together (a bulk import
+ * chunk or a recurring series), in place of one {@link AppointmentChangedEvent}
+ * per row.
+ */
+public record AppointmentsBookedEvent(Set<Long> doctorIds, Set<Long> patientIds, int count) {
+}
@@ -0,0 +1,18 @@
+package com.hms.hospital_management_system.event;
+
+import com.hms.hospital_management_system.entity.Bill;
+
+/**
+ * Published by BillService whenever a bill is created, updated, paid or deleted.
+ */
+public record BillChangedEvent(ChangeType changeType, Long billId, Long patientId) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, PAID, STATUS_CHANGED, DELETED
+    }
+
+    public static BillChangedEvent of(ChangeType changeType, Bill bill) {
+        return new BillChangedEvent(changeType, bill.getId(),
+                bill.getPatient() != null ? bill.getPatient().getId() : null);
+    }
+}
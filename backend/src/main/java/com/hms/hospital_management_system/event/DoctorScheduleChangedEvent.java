@@ -0,0 +1,7 @@
+package com.hms.hospital_management_system.event;
+
+/**
+ * Published by DoctorService when a doctor's working hours or slot length change.
+ */
+public record DoctorScheduleChangedEvent(Long doctorId) {
+}
@@ -0,0 +1,15 @@
+package com.hms.hospital_management_system.event;
+
+import com.hms.hospital_management_system.entity.MedicalRecord;
+
+/**
+ * Published by MedicalRecordService whenever a medical record is created, updated or deleted.
+ */
+public record MedicalRecordChangedEvent(Long recordId, Long doctorId, Long patientId) {
+
+    public static MedicalRecordChangedEvent of(MedicalRecord record) {
+        return new MedicalRecordChangedEvent(record.getId(),
+                record.getDoctor() != null ? record.getDoctor().getId() : null,
+                record.getPatient() != null ? record.getPatient().getId() : null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.hms.hospital_management_system.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by NotificationService when a notification is created to be sent
+ * at a later time.
+ */
+public record NotificationScheduledEvent(Long notificationId, LocalDateTime scheduledFor) {
+}
@@ -0,0 +1,14 @@
+package com.hms.hospital_management_system.event;
+
+import java.util.Set;
+
+/**
+ * Published by NotificationService and MessageService whenever a write may
+ * change the unread notification or message count of the given users.
+ */
+public record UnreadCountChangedEvent(Set<Long> userIds) {
+
+    public static UnreadCountChangedEvent of(Long userId) {
+        return new UnreadCountChangedEvent(Set.of(userId));
+    }
+}
@@ -0,0 +1,25 @@
+package com.hms.hospital_management_system.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hms.hospital_management_system.entity.AppointmentDayLock;
+
+@Repository
+public interface AppointmentDayLockRepository extends JpaRepository<AppointmentDayLock, Long> {
+
+    // Creates or updates the row in one statement, so the caller holds its
+    // exclusive lock until commit without a separate SELECT ... FOR UPDATE
+    String ACQUIRE_SQL = "INSERT INTO appointment_day_lock (doctor_id, lock_date, lock_count, updated_at) " +
+            "VALUES (:doctorId, :date, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE lock_count = lock_count + 1, updated_at = NOW()";
+
+    @Modifying
+    @Query(value = ACQUIRE_SQL, nativeQuery = true)
+    int acquire(@Param("doctorId") Long doctorId, @Param("date") LocalDate date);
+}
@@ -3,8 +3,14 @@ package com.hms.hospital_management_system.repository;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,7 +19,12 @@ import com.hms.hospital_management_system.entity.Appointment;
 import com.hms.hospital_management_system.entity.Appointment.AppointmentStatus;
 
 @Repository
-public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
+public interface AppointmentRepository extends JpaRepository<Appointment, Long>, JpaSpecificationExecutor<Appointment> {
+
+    // Page content of a filtered listing; the count query is derived without the fetch
+    @Override
+    @EntityGraph(attributePaths = {"patient", "doctor"})
+    Page<Appointment> findAll(Specification<Appointment> spec, Pageable pageable);
     
     List<Appointment> findByPatientId(Long patientId);
     
@@ -33,10 +44,10 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     @Query("SELECT a FROM Appointment a WHERE a.doctor.id = :doctorId AND a.appointmentDate BETWEEN :startDate AND :endDate")
     List<Appointment> findByDoctorIdAndDateRange(Long doctorId, LocalDate startDate, LocalDate endDate);
     
-    // Check for conflicting appointments (same doctor, date, and time within 30-minute window)
+    // Check for conflicting appointments (same doctor and date, start times closer than one slot length)
     @Query("SELECT a FROM Appointment a WHERE a.doctor.id = :doctorId " +
            "AND a.appointmentDate = :date " +
-           "AND a.appointmentTime BETWEEN :startTime AND :endTime " +
+           "AND a.appointmentTime > :startTime AND a.appointmentTime < :endTime " +
            "AND a.status NOT IN ('CANCELLED', 'NO_SHOW')")
     List<Appointment> findConflictingAppointments(
             @Param("doctorId") Long doctorId,
@@ -47,7 +58,7 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     // Check for conflicting appointments excluding a specific appointment (for updates)
     @Query("SELECT a FROM Appointment a WHERE a.doctor.id = :doctorId " +
            "AND a.appointmentDate = :date " +
-           "AND a.appointmentTime BETWEEN :startTime AND :endTime " +
+           "AND a.appointmentTime > :startTime AND a.appointmentTime < :endTime " +
            "AND a.status NOT IN ('CANCELLED', 'NO_SHOW') " +
            "AND a.id != :excludeId")
     List<Appointment> findConflictingAppointmentsExcluding(
@@ -59,4 +70,128 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     
     // For PDF report generation
     List<Appointment> findByPatientIdOrderByAppointmentDateDesc(Long patientId);
+    
+    // ========== Dashboard Aggregates ==========
+    
+    long countByAppointmentDate(LocalDate date);
+    
+    @Query("SELECT a.status AS status, COUNT(a) AS count FROM Appointment a GROUP BY a.status")
+    List<StatusCount> countGroupedByStatus();
+
+    @Query("SELECT a.status AS status, COUNT(a) AS count FROM Appointment a " +
+           "WHERE a.doctor.id = :doctorId GROUP BY a.status")
+    List<StatusCount> countGroupedByStatusForDoctor(@Param("doctorId") Long doctorId);
+
+    // Just enough of each of a doctor's appointments to publish change events for them
+    @Query("SELECT a.id AS id, a.patient.id AS patientId FROM Appointment a WHERE a.doctor.id = :doctorId")
+    List<AppointmentRef> findRefsByDoctorId(@Param("doctorId") Long doctorId);
+    
+    // Age at the appointment date is bucketed in the database, so no patient rows are loaded;
+    // patients without a date of birth fall into neither SUM and are counted as adults by the caller.
+    // A null departmentId covers every department.
+    @Query(value = "SELECT a.appointment_date AS day, COUNT(*) AS total, " +
+           "CAST(SUM(CASE WHEN TIMESTAMPDIFF(YEAR, p.date_of_birth, a.appointment_date) < :childMaxAge " +
+           "THEN 1 ELSE 0 END) AS SIGNED) AS child, " +
+           "CAST(SUM(CASE WHEN TIMESTAMPDIFF(YEAR, p.date_of_birth, a.appointment_date) >= :elderlyMinAge " +
+           "THEN 1 ELSE 0 END) AS SIGNED) AS elderly " +
+           "FROM appointment a JOIN patient p ON p.id = a.patient_id JOIN doctor d ON d.id = a.doctor_id " +
+           "WHERE a.appointment_date BETWEEN :startDate AND :endDate " +
+           "AND (:departmentId IS NULL OR d.department_id = :departmentId) " +
+           "GROUP BY a.appointment_date", nativeQuery = true)
+    List<DailyAgeBreakdown> countAgeGroupsByDay(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("departmentId") Long departmentId,
+            @Param("childMaxAge") int childMaxAge,
+            @Param("elderlyMinAge") int elderlyMinAge);
+    
+    @Query("SELECT a.doctor.id AS doctorId, COUNT(a) AS count FROM Appointment a " +
+           "WHERE a.appointmentDate = :date AND a.doctor.id IN :doctorIds GROUP BY a.doctor.id")
+    List<DoctorCount> countByDoctorsOnDate(@Param("doctorIds") List<Long> doctorIds, @Param("date") LocalDate date);
+    
+    @EntityGraph(attributePaths = {"patient", "doctor"})
+    List<Appointment> findTop5ByOrderByCreatedAtDesc();
+
+    // Start times of a doctor's active bookings on a day, for the slot availability bitmap
+    @Query("SELECT a.appointmentTime FROM Appointment a WHERE a.doctor.id = :doctorId " +
+           "AND a.appointmentDate = :date AND a.status NOT IN ('CANCELLED', 'NO_SHOW')")
+    List<LocalTime> findBookedTimes(@Param("doctorId") Long doctorId, @Param("date") LocalDate date);
+
+    // Active bookings of several doctors over a date range, for batch availability
+    @Query("SELECT a.doctor.id AS doctorId, a.appointmentDate AS date, a.appointmentTime AS time " +
+           "FROM Appointment a WHERE a.doctor.id IN :doctorIds " +
+           "AND a.appointmentDate BETWEEN :startDate AND :endDate AND a.status NOT IN ('CANCELLED', 'NO_SHOW')")
+    List<BookedTime> findBookedTimesForDoctors(@Param("doctorIds") List<Long> doctorIds,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+
+    @EntityGraph(attributePaths = {"patient", "doctor"})
+    Optional<Appointment> findWithPatientAndDoctorById(Long id);
+
+    // Calendar/list read model: one joined row per appointment, no entities or proxies
+    @Query("SELECT a.id AS id, a.appointmentDate AS appointmentDate, a.appointmentTime AS appointmentTime, " +
+           "a.status AS status, a.reason AS reason, p.id AS patientId, " +
+           "CONCAT(p.firstName, ' ', p.lastName) AS patientName, d.id AS doctorId, " +
+           "CONCAT('Dr. ', d.firstName, ' ', d.lastName) AS doctorName " +
+           "FROM Appointment a JOIN a.patient p JOIN a.doctor d " +
+           "WHERE (:doctorId IS NULL OR d.id = :doctorId) AND (:patientId IS NULL OR p.id = :patientId) " +
+           "AND (:date IS NULL OR a.appointmentDate = :date) " +
+           "ORDER BY a.appointmentDate, a.appointmentTime, a.id")
+    List<AppointmentSummary> findSummaries(@Param("doctorId") Long doctorId, @Param("patientId") Long patientId,
+                                           @Param("date") LocalDate date);
+
+    // ========== Keyset Pagination (appointmentDate DESC, id DESC) ==========
+
+    @Query("SELECT a FROM Appointment a JOIN FETCH a.patient JOIN FETCH a.doctor " +
+           "WHERE (:doctorId IS NULL OR a.doctor.id = :doctorId) AND (:patientId IS NULL OR a.patient.id = :patientId) " +
+           "ORDER BY a.appointmentDate DESC, a.id DESC")
+    List<Appointment> findNewestFirst(@Param("doctorId") Long doctorId, @Param("patientId") Long patientId,
+                                      Pageable limit);
+
+    @Query("SELECT a FROM Appointment a JOIN FETCH a.patient JOIN FETCH a.doctor " +
+           "WHERE (:doctorId IS NULL OR a.doctor.id = :doctorId) AND (:patientId IS NULL OR a.patient.id = :patientId) " +
+           "AND (a.appointmentDate < :date OR (a.appointmentDate = :date AND a.id < :id)) " +
+           "ORDER BY a.appointmentDate DESC, a.id DESC")
+    List<Appointment> findNewestFirstAfter(@Param("doctorId") Long doctorId, @Param("patientId") Long patientId,
+                                           @Param("date") LocalDate date, @Param("id") Long id, Pageable limit);
+    
+    interface StatusCount {
+        AppointmentStatus getStatus();
+        Long getCount();
+    }
+
+    interface AppointmentRef {
+        Long getId();
+        Long getPatientId();
+    }
+    
+    interface DailyAgeBreakdown {
+        LocalDate getDay();
+        Long getTotal();
+        Long getChild();
+        Long getElderly();
+    }
+    
+    interface AppointmentSummary {
+        Long getId();
+        LocalDate getAppointmentDate();
+        LocalTime getAppointmentTime();
+        AppointmentStatus getStatus();
+        String getReason();
+        Long getPatientId();
+        String getPatientName();
+        Long getDoctorId();
+        String getDoctorName();
+    }
+    
+    interface BookedTime {
+        Long getDoctorId();
+        LocalDate getDate();
+        LocalTime getTime();
+    }
+    
+    interface DoctorCount {
+        Long getDoctorId();
+        Long getCount();
+    }
 }
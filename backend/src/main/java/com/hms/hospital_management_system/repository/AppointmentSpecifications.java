@@ -0,0 +1,46 @@
+package com.hms.hospital_management_system.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.hms.hospital_management_system.entity.Appointment;
+import com.hms.hospital_management_system.entity.Appointment.AppointmentStatus;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Dynamic appointment filters for {@link AppointmentRepository}; every
+ * criterion is optional and a null value leaves it out of the WHERE clause.
+ */
+public final class AppointmentSpecifications {
+
+    private AppointmentSpecifications() {
+    }
+
+    public static Specification<Appointment> filter(AppointmentStatus status, Long doctorId, Long patientId,
+            LocalDate startDate, LocalDate endDate) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            // Compared on the foreign key columns, so no join is needed for filtering
+            if (doctorId != null) {
+                predicates.add(cb.equal(root.get("doctor").get("id"), doctorId));
+            }
+            if (patientId != null) {
+                predicates.add(cb.equal(root.get("patient").get("id"), patientId));
+            }
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("appointmentDate"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("appointmentDate"), endDate));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -3,8 +3,10 @@ package com.hms.hospital_management_system.repository;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.hms.hospital_management_system.entity.Bill;
@@ -29,4 +31,41 @@ public interface BillRepository extends JpaRepository<Bill, Long> {
     
     @Query("SELECT SUM(b.netAmount) FROM Bill b WHERE b.paymentStatus = 'PENDING'")
     Double getTotalPendingAmount();
+    
+    // ========== Keyset Pagination (billDate DESC, id DESC) ==========
+    
+    @Query("SELECT b FROM Bill b JOIN FETCH b.patient WHERE (:patientId IS NULL OR b.patient.id = :patientId) " +
+           "ORDER BY b.billDate DESC, b.id DESC")
+    List<Bill> findNewestFirst(@Param("patientId") Long patientId, Pageable limit);
+    
+    @Query("SELECT b FROM Bill b JOIN FETCH b.patient WHERE (:patientId IS NULL OR b.patient.id = :patientId) " +
+           "AND (b.billDate < :date OR (b.billDate = :date AND b.id < :id)) " +
+           "ORDER BY b.billDate DESC, b.id DESC")
+    List<Bill> findNewestFirstAfter(@Param("patientId") Long patientId, @Param("date") LocalDate date,
+                                    @Param("id") Long id, Pageable limit);
+    
+    // ========== Dashboard Aggregates ==========
+    
+    long countByPaymentStatus(PaymentStatus status);
+    
+    @Query("SELECT COALESCE(SUM(b.netAmount), 0) FROM Bill b WHERE b.paymentStatus = 'PAID'")
+    Double getTotalPaidRevenue();
+    
+    @Query("SELECT b.billDate AS day, SUM(b.netAmount) AS total FROM Bill b " +
+           "WHERE b.paymentStatus = 'PAID' AND b.billDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY b.billDate")
+    List<DailyRevenue> sumPaidRevenueByDay(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    @Query("SELECT MIN(b.billDate) AS firstDay, MAX(b.billDate) AS lastDay FROM Bill b WHERE b.paymentStatus = 'PAID'")
+    DateRange findPaidBillDateRange();
+    
+    interface DailyRevenue {
+        LocalDate getDay();
+        Double getTotal();
+    }
+    
+    interface DateRange {
+        LocalDate getFirstDay();
+        LocalDate getLastDay();
+    }
 }
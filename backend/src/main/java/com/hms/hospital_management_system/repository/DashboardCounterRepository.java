@@ -0,0 +1,31 @@
+package com.hms.hospital_management_system.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hms.hospital_management_system.entity.DashboardCounter;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, String> {
+
+    // Relative update so concurrent writers never overwrite each other's deltas
+    @Modifying
+    @Query("UPDATE DashboardCounter c SET c.value = c.value + :delta, c.amount = c.amount + :amount, " +
+           "c.updatedAt = :now WHERE c.name = :name")
+    int applyDelta(@Param("name") String name, @Param("delta") long delta,
+            @Param("amount") double amount, @Param("now") LocalDateTime now);
+
+    // Locks every counter row; used by reconciliation to hold off writers while recounting
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM DashboardCounter c ORDER BY c.name")
+    List<DashboardCounter> findAllForUpdate();
+}
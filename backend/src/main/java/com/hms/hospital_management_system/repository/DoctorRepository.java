@@ -33,4 +33,14 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
     
     @Query("SELECT DISTINCT d FROM Doctor d WHERE d.id IN (SELECT a.doctor.id FROM Appointment a WHERE a.patient.id = :patientId)")
     List<Doctor> findByPatientId(@Param("patientId") Long patientId);
+    
+    List<Doctor> findTop5ByOrderByIdAsc();
+    
+    @Query("SELECT dep.name AS name, COUNT(d) AS count FROM Doctor d JOIN d.department dep GROUP BY dep.name ORDER BY dep.name")
+    List<DepartmentCount> countByDepartmentName();
+    
+    interface DepartmentCount {
+        String getName();
+        Long getCount();
+    }
 }
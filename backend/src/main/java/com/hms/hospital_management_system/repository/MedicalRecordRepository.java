@@ -1,8 +1,10 @@
 package com.hms.hospital_management_system.repository;
 
 import com.hms.hospital_management_system.entity.MedicalRecord;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -24,4 +26,19 @@ public interface MedicalRecordRepository extends JpaRepository<MedicalRecord, Lo
     
     @Query("SELECT m FROM MedicalRecord m WHERE LOWER(m.diagnosis) LIKE LOWER(CONCAT('%', :diagnosis, '%'))")
     List<MedicalRecord> searchByDiagnosis(String diagnosis);
+    
+    // ========== Keyset Pagination (recordDate DESC, id DESC) ==========
+    
+    @Query("SELECT m FROM MedicalRecord m JOIN FETCH m.patient JOIN FETCH m.doctor " +
+           "WHERE (:doctorId IS NULL OR m.doctor.id = :doctorId) AND (:patientId IS NULL OR m.patient.id = :patientId) " +
+           "ORDER BY m.recordDate DESC, m.id DESC")
+    List<MedicalRecord> findNewestFirst(@Param("doctorId") Long doctorId, @Param("patientId") Long patientId,
+                                        Pageable limit);
+    
+    @Query("SELECT m FROM MedicalRecord m JOIN FETCH m.patient JOIN FETCH m.doctor " +
+           "WHERE (:doctorId IS NULL OR m.doctor.id = :doctorId) AND (:patientId IS NULL OR m.patient.id = :patientId) " +
+           "AND (m.recordDate < :date OR (m.recordDate = :date AND m.id < :id)) " +
+           "ORDER BY m.recordDate DESC, m.id DESC")
+    List<MedicalRecord> findNewestFirstAfter(@Param("doctorId") Long doctorId, @Param("patientId") Long patientId,
+                                             @Param("date") LocalDate date, @Param("id") Long id, Pageable limit);
 }
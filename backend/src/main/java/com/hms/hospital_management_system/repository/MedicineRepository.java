@@ -28,5 +28,9 @@ public interface MedicineRepository extends JpaRepository<Medicine, Long> {
     @Query("SELECT m FROM Medicine m WHERE m.expiryDate BETWEEN :startDate AND :endDate")
     List<Medicine> findMedicinesExpiringBetween(LocalDate startDate, LocalDate endDate);
     
+    // Medicines without a reorder level use the default threshold of 10
+    @Query("SELECT COUNT(m) FROM Medicine m WHERE m.stockQuantity <= COALESCE(m.reorderLevel, 10)")
+    long countLowStockMedicines();
+    
     boolean existsByName(String name);
 }
@@ -1,8 +1,11 @@
 package com.hms.hospital_management_system.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,6 +22,27 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
            "ORDER BY m.sentAt ASC")
     List<Message> findConversation(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
 
+    // ========== Keyset Pagination (sentAt, id), one direction of a conversation ==========
+    // Ordered by the full index key so the page is read straight off the index without a sort.
+    // No fetch joins: the page has only two distinct users, which the session loads once.
+
+    @Query("SELECT m FROM Message m WHERE m.sender.id = :senderId AND m.receiver.id = :receiverId " +
+           "ORDER BY m.sender.id DESC, m.receiver.id DESC, m.sentAt DESC, m.id DESC")
+    List<Message> findNewestFromTo(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId,
+                                   Pageable limit);
+
+    @Query("SELECT m FROM Message m WHERE m.sender.id = :senderId AND m.receiver.id = :receiverId " +
+           "AND (m.sentAt < :sentAt OR (m.sentAt = :sentAt AND m.id < :id)) " +
+           "ORDER BY m.sender.id DESC, m.receiver.id DESC, m.sentAt DESC, m.id DESC")
+    List<Message> findFromToBefore(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId,
+                                   @Param("sentAt") LocalDateTime sentAt, @Param("id") Long id, Pageable limit);
+
+    @Query("SELECT m FROM Message m WHERE m.sender.id = :senderId AND m.receiver.id = :receiverId " +
+           "AND (m.sentAt > :sentAt OR (m.sentAt = :sentAt AND m.id > :id)) " +
+           "ORDER BY m.sender.id, m.receiver.id, m.sentAt, m.id")
+    List<Message> findFromToAfter(@Param("senderId") Long senderId, @Param("receiverId") Long receiverId,
+                                  @Param("sentAt") LocalDateTime sentAt, @Param("id") Long id, Pageable limit);
+
     // Find all messages sent by a user
     List<Message> findBySenderIdOrderBySentAtDesc(Long senderId);
 
@@ -31,9 +55,25 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     // Count unread messages for a user
     Long countByReceiverIdAndIsReadFalse(Long receiverId);
 
+    interface UnreadCount {
+        Long getUserId();
+        Long getCount();
+    }
+
+    // Count unread messages for several receivers; receivers without any are left out
+    @Query("SELECT m.receiver.id AS userId, COUNT(m) AS count FROM Message m " +
+           "WHERE m.receiver.id IN :userIds AND m.isRead = false GROUP BY m.receiver.id")
+    List<UnreadCount> countUnreadByReceiverIds(@Param("userIds") List<Long> userIds);
+
     // Count unread messages from a specific sender
     Long countBySenderIdAndReceiverIdAndIsReadFalse(Long senderId, Long receiverId);
 
+    // Mark every unread message from a sender to a receiver as read
+    @Modifying
+    @Query("UPDATE Message m SET m.isRead = true " +
+           "WHERE m.receiver.id = :receiverId AND m.sender.id = :senderId AND m.isRead = false")
+    int markReadFromSender(@Param("receiverId") Long receiverId, @Param("senderId") Long senderId);
+
     // Find latest message in each conversation for a user
     @Query("SELECT m FROM Message m WHERE m.id IN " +
            "(SELECT MAX(m2.id) FROM Message m2 WHERE m2.sender.id = :userId OR m2.receiver.id = :userId " +
@@ -41,6 +81,35 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
            "ORDER BY m.sentAt DESC")
     List<Message> findLatestMessagesForUser(@Param("userId") Long userId);
 
+    interface ConversationSummary {
+        Long getPartnerId();
+        String getFirstName();
+        String getLastName();
+        String getRole();
+        String getLastMessage();
+        LocalDateTime getLastMessageTime();
+        Long getUnreadCount();
+    }
+
+    // One row per conversation partner, newest conversation first: the partner, the latest message either
+    // way and the unread count from them. Each branch groups one side of the user's messages on its
+    // (sender, receiver) index, so history size only shows up in index scans, never in rows loaded.
+    @Query(value = "SELECT c.partner_id AS partnerId, u.first_name AS firstName, u.last_name AS lastName, " +
+           "u.role AS role, m.content AS lastMessage, m.sent_at AS lastMessageTime, " +
+           "COALESCE(un.unread, 0) AS unreadCount " +
+           "FROM (SELECT t.partner_id, MAX(t.last_id) AS last_id FROM (" +
+           "SELECT receiver_id AS partner_id, MAX(id) AS last_id FROM message WHERE sender_id = :userId " +
+           "GROUP BY receiver_id " +
+           "UNION ALL " +
+           "SELECT sender_id AS partner_id, MAX(id) AS last_id FROM message WHERE receiver_id = :userId " +
+           "GROUP BY sender_id) t GROUP BY t.partner_id) c " +
+           "JOIN message m ON m.id = c.last_id " +
+           "JOIN users u ON u.id = c.partner_id " +
+           "LEFT JOIN (SELECT sender_id, COUNT(*) AS unread FROM message " +
+           "WHERE receiver_id = :userId AND is_read = FALSE GROUP BY sender_id) un ON un.sender_id = c.partner_id " +
+           "ORDER BY m.sent_at DESC, m.id DESC", nativeQuery = true)
+    List<ConversationSummary> findConversationSummaries(@Param("userId") Long userId);
+
     // Find all user IDs who have conversations with a specific user (as senders)
     @Query("SELECT DISTINCT m.receiver.id FROM Message m WHERE m.sender.id = :userId")
     List<Long> findReceiverIdsForUser(@Param("userId") Long userId);
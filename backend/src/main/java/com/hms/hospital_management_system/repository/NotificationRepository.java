@@ -3,7 +3,9 @@ package com.hms.hospital_management_system.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,17 +18,57 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     
     List<Notification> findByUserId(Long userId);
     
-    List<Notification> findByUserIdAndIsReadFalse(Long userId);
+    // Scheduled notifications stay hidden, and out of unread counts, until the dispatcher sends them
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isRead = false AND n.sentAt IS NOT NULL")
+    List<Notification> findUnreadSent(@Param("userId") Long userId);
     
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // ========== Keyset Pagination (id DESC, newest first) ==========
+
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.sentAt IS NOT NULL ORDER BY n.id DESC")
+    List<Notification> findNewestFirst(@Param("userId") Long userId, Pageable limit);
+
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.id < :id AND n.sentAt IS NOT NULL " +
+           "ORDER BY n.id DESC")
+    List<Notification> findNewestFirstAfter(@Param("userId") Long userId, @Param("id") Long id, Pageable limit);
     
     List<Notification> findByType(NotificationType type);
     
-    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false " +
+           "AND n.sentAt IS NOT NULL")
     Long countUnreadByUserId(@Param("userId") Long userId);
+
+    interface UnreadCount {
+        Long getUserId();
+        Long getCount();
+    }
+
+    // Users without unread notifications are left out
+    @Query("SELECT n.user.id AS userId, COUNT(n) AS count FROM Notification n " +
+           "WHERE n.user.id IN :userIds AND n.isRead = false AND n.sentAt IS NOT NULL GROUP BY n.user.id")
+    List<UnreadCount> countUnreadByUserIds(@Param("userIds") List<Long> userIds);
     
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :now " +
+           "WHERE n.user.id = :userId AND n.isRead = false AND n.sentAt IS NOT NULL")
+    int markAllRead(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
     @Query("SELECT n FROM Notification n WHERE n.scheduledFor <= :now AND n.sentAt IS NULL")
     List<Notification> findPendingScheduledNotifications(@Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT n.user.id FROM Notification n WHERE n.id IN :ids AND n.sentAt IS NULL")
+    List<Long> findUnsentRecipients(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.sentAt = :sentAt, n.updatedAt = :sentAt " +
+           "WHERE n.id IN :ids AND n.sentAt IS NULL")
+    int markSent(@Param("ids") List<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.sentAt = :now, n.updatedAt = :now " +
+           "WHERE n.scheduledFor <= :now AND n.sentAt IS NULL")
+    int markDueAsSent(@Param("now") LocalDateTime now);
     
     @Query("SELECT n FROM Notification n WHERE n.referenceType = :referenceType AND n.referenceId = :referenceId")
     List<Notification> findByReference(@Param("referenceType") String referenceType, @Param("referenceId") Long referenceId);
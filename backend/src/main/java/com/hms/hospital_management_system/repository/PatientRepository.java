@@ -1,5 +1,6 @@
 package com.hms.hospital_management_system.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +33,7 @@ public interface PatientRepository extends JpaRepository<Patient, Long> {
            "(SELECT a.patient.id FROM Appointment a WHERE a.doctor.id = :doctorId) " +
            "OR p.id IN (SELECT m.patient.id FROM MedicalRecord m WHERE m.doctor.id = :doctorId)")
     List<Patient> findByDoctorId(@Param("doctorId") Long doctorId);
+    
+    @Query("SELECT COUNT(p) FROM Patient p WHERE p.createdAt >= :from AND p.createdAt < :to")
+    long countCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
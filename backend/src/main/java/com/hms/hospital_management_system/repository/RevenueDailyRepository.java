@@ -0,0 +1,51 @@
+package com.hms.hospital_management_system.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hms.hospital_management_system.entity.RevenueDaily;
+import com.hms.hospital_management_system.repository.BillRepository.DailyRevenue;
+
+@Repository
+public interface RevenueDailyRepository extends JpaRepository<RevenueDaily, Long> {
+
+    // Upsert-and-add so concurrent payments on the same day never overwrite each other
+    @Modifying
+    @Query(value = "INSERT INTO revenue_daily (revenue_date, payment_method, paid_amount, bill_count, updated_at) " +
+           "VALUES (:day, :method, :amount, :count, NOW()) " +
+           "ON DUPLICATE KEY UPDATE paid_amount = paid_amount + VALUES(paid_amount), " +
+           "bill_count = bill_count + VALUES(bill_count), updated_at = NOW()", nativeQuery = true)
+    int applyDelta(@Param("day") LocalDate day, @Param("method") String method,
+            @Param("amount") double amount, @Param("count") long count);
+
+    @Modifying
+    @Query("DELETE FROM RevenueDaily r WHERE r.revenueDate BETWEEN :startDate AND :endDate")
+    int deleteByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Rebuilds the rollup for a date range straight from the paid bills
+    @Modifying
+    @Query(value = "INSERT INTO revenue_daily (revenue_date, payment_method, paid_amount, bill_count, updated_at) " +
+           "SELECT b.bill_date, COALESCE(b.payment_method, '" + RevenueDaily.UNSPECIFIED_METHOD + "'), " +
+           "SUM(b.net_amount), COUNT(*), NOW() FROM bill b " +
+           "WHERE b.payment_status = 'PAID' AND b.bill_date BETWEEN :startDate AND :endDate " +
+           "GROUP BY b.bill_date, COALESCE(b.payment_method, '" + RevenueDaily.UNSPECIFIED_METHOD + "')",
+           nativeQuery = true)
+    int insertFromBills(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COALESCE(SUM(r.billCount), 0) FROM RevenueDaily r")
+    long sumBillCount();
+
+    @Query("SELECT COALESCE(SUM(r.paidAmount), 0) FROM RevenueDaily r " +
+           "WHERE r.revenueDate BETWEEN :startDate AND :endDate")
+    Double sumPaidAmount(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT r.revenueDate AS day, SUM(r.paidAmount) AS total FROM RevenueDaily r " +
+           "WHERE r.revenueDate BETWEEN :startDate AND :endDate GROUP BY r.revenueDate")
+    List<DailyRevenue> sumPaidAmountByDay(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
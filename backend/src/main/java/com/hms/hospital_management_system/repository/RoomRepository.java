@@ -25,5 +25,7 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     
     List<Room> findByRoomTypeAndStatus(RoomType roomType, RoomStatus status);
     
+    long countByStatus(RoomStatus status);
+    
     boolean existsByRoomNumber(String roomNumber);
 }
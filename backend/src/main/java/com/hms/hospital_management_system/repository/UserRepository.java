@@ -1,11 +1,15 @@
 package com.hms.hospital_management_system.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.hms.hospital_management_system.entity.User;
+import com.hms.hospital_management_system.entity.User.Role;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -17,4 +21,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByDoctorId(Long doctorId);
     
     Optional<User> findByPatientId(Long patientId);
+
+    /**
+     * Active users with the role and/or in the department (either may be null).
+     * Doctors belong to their doctor record's department, other staff to the
+     * department of the staff record with the same email.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.isActive = true " +
+           "AND (:role IS NULL OR u.role = :role) " +
+           "AND (:departmentId IS NULL " +
+           "OR EXISTS (SELECT d.id FROM Doctor d WHERE d.id = u.doctorId AND d.department.id = :departmentId) " +
+           "OR EXISTS (SELECT s.id FROM Staff s WHERE s.email = u.email AND s.department.id = :departmentId " +
+           "AND s.status = com.hms.hospital_management_system.entity.Staff.StaffStatus.ACTIVE)) " +
+           "ORDER BY u.id")
+    List<Long> findBroadcastRecipientIds(@Param("role") Role role, @Param("departmentId") Long departmentId);
 }
@@ -0,0 +1,57 @@
+package com.hms.hospital_management_system.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hms.hospital_management_system.entity.WaitlistEntry;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    // Queue order: priority, then first come first served
+    @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.patient JOIN FETCH w.doctor " +
+           "WHERE w.doctor.id = :doctorId AND w.waitlistDate = :date AND w.status = 'WAITING' " +
+           "ORDER BY w.priority DESC, w.createdAt ASC, w.id ASC")
+    List<WaitlistEntry> findQueue(@Param("doctorId") Long doctorId, @Param("date") LocalDate date);
+
+    // Waiting entries whose time window admits a slot starting at :time, head of the queue first
+    @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.patient " +
+           "WHERE w.doctor.id = :doctorId AND w.waitlistDate = :date AND w.status = 'WAITING' " +
+           "AND (w.earliestTime IS NULL OR w.earliestTime <= :time) " +
+           "AND (w.latestTime IS NULL OR w.latestTime >= :time) " +
+           "ORDER BY w.priority DESC, w.createdAt ASC, w.id ASC")
+    List<WaitlistEntry> findCandidates(@Param("doctorId") Long doctorId, @Param("date") LocalDate date,
+            @Param("time") LocalTime time, Pageable pageable);
+
+    @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.doctor WHERE w.patient.id = :patientId " +
+           "ORDER BY w.waitlistDate DESC, w.id DESC")
+    List<WaitlistEntry> findByPatient(@Param("patientId") Long patientId);
+
+    @Query("SELECT COUNT(w) FROM WaitlistEntry w WHERE w.status = 'WAITING'")
+    long countWaiting();
+
+    // Status changes only apply to a WAITING entry; 0 rows means a concurrent cancel or booking got there first
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WaitlistEntry w SET w.status = 'CANCELLED', w.updatedAt = :now " +
+           "WHERE w.id = :id AND w.status = 'WAITING'")
+    int cancelIfWaiting(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.status = 'BOOKED', w.bookedAt = :now, w.updatedAt = :now " +
+           "WHERE w.id = :id AND w.status = 'WAITING'")
+    int claimIfWaiting(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.appointmentId = :appointmentId WHERE w.id = :id")
+    int setAppointment(@Param("id") Long id, @Param("appointmentId") Long appointmentId);
+}
@@ -31,6 +31,7 @@ public class AdmissionService {
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
     private final RoomRepository roomRepository;
+    private final DashboardCounterService dashboardCounterService;
 
     public List<Admission> getAllAdmissions() {
         return admissionRepository.findAll();
@@ -98,6 +99,7 @@ public class AdmissionService {
             admission.setRoom(room);
             
             // Update room status to occupied
+            dashboardCounterService.roomStatusChanged(room.getStatus(), RoomStatus.OCCUPIED);
             room.setStatus(RoomStatus.OCCUPIED);
             roomRepository.save(room);
         }
@@ -124,6 +126,7 @@ public class AdmissionService {
         // Release old room if exists
         if (admission.getRoom() != null) {
             Room oldRoom = admission.getRoom();
+            dashboardCounterService.roomStatusChanged(oldRoom.getStatus(), RoomStatus.AVAILABLE);
             oldRoom.setStatus(RoomStatus.AVAILABLE);
             roomRepository.save(oldRoom);
         }
@@ -135,6 +138,7 @@ public class AdmissionService {
         admission.setRoom(room);
         admission.setBedNumber(bedNumber);
         
+        dashboardCounterService.roomStatusChanged(room.getStatus(), RoomStatus.OCCUPIED);
         room.setStatus(RoomStatus.OCCUPIED);
         roomRepository.save(room);
         
@@ -154,6 +158,7 @@ public class AdmissionService {
         // Release room
         if (admission.getRoom() != null) {
             Room room = admission.getRoom();
+            dashboardCounterService.roomStatusChanged(room.getStatus(), RoomStatus.AVAILABLE);
             room.setStatus(RoomStatus.AVAILABLE);
             roomRepository.save(room);
         }
@@ -0,0 +1,110 @@
+package com.hms.hospital_management_system.service;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import com.hms.hospital_management_system.entity.Appointment.AppointmentStatus;
+import com.hms.hospital_management_system.repository.AppointmentDayLockRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JDBC batch writes for paths that create many appointments at once (bulk
+ * import, recurring series). Appointment ids are IDENTITY-generated, which
+ * rules out Hibernate insert batching, so rows go through one JDBC batch.
+ * Callers run inside a transaction and record counters and events themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO appointment (patient_id, doctor_id, appointment_date, " +
+            "appointment_time, status, reason, notes, series_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public record DoctorDay(Long doctorId, LocalDate date) {
+    }
+
+    // Every multi-day locker takes locks in this order, so two of them cannot deadlock
+    public static final Comparator<DoctorDay> LOCK_ORDER =
+            Comparator.comparing(DoctorDay::doctorId).thenComparing(DoctorDay::date);
+
+    public record NewAppointment(Long patientId, Long doctorId, LocalDate date, LocalTime time,
+            AppointmentStatus status, String reason, String notes, String seriesId) {
+    }
+
+    /**
+     * Takes the (doctor, day) booking locks used by single bookings, in one
+     * batch and in {@link #LOCK_ORDER}; held until the caller commits.
+     */
+    public void lockDays(Collection<DoctorDay> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.batchUpdate(AppointmentDayLockRepository.ACQUIRE_SQL, days.stream()
+                .distinct()
+                .sorted(LOCK_ORDER)
+                .map(day -> new MapSqlParameterSource()
+                        .addValue("doctorId", day.doctorId())
+                        .addValue("date", day.date()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * Inserts the appointments in one batch and returns their ids in order.
+     */
+    public List<Long> insert(List<NewAppointment> appointments) {
+        if (appointments.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NewAppointment appointment = appointments.get(i);
+                        ps.setLong(1, appointment.patientId());
+                        ps.setLong(2, appointment.doctorId());
+                        ps.setDate(3, Date.valueOf(appointment.date()));
+                        ps.setTime(4, Time.valueOf(appointment.time()));
+                        ps.setString(5, appointment.status().name());
+                        ps.setString(6, appointment.reason());
+                        ps.setString(7, appointment.notes());
+                        ps.setString(8, appointment.seriesId());
+                        ps.setTimestamp(9, now);
+                        ps.setTimestamp(10, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return appointments.size();
+                    }
+                }, keys);
+        // Drivers label the generated column differently, so take each row's only key
+        return keys.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+    }
+}
@@ -0,0 +1,409 @@
+package com.hms.hospital_management_system.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hms.hospital_management_system.dto.AppointmentImportReport;
+import com.hms.hospital_management_system.dto.AppointmentImportReport.Outcome;
+import com.hms.hospital_management_system.dto.AppointmentImportReport.RowResult;
+import com.hms.hospital_management_system.entity.Appointment.AppointmentStatus;
+import com.hms.hospital_management_system.entity.Doctor;
+import com.hms.hospital_management_system.entity.Patient;
+import com.hms.hospital_management_system.event.AppointmentsBookedEvent;
+import com.hms.hospital_management_system.repository.AppointmentRepository;
+import com.hms.hospital_management_system.repository.AppointmentRepository.BookedTime;
+import com.hms.hospital_management_system.service.AppointmentBatchWriter.DoctorDay;
+import com.hms.hospital_management_system.service.AppointmentBatchWriter.NewAppointment;
+import com.hms.hospital_management_system.repository.DoctorRepository;
+import com.hms.hospital_management_system.repository.PatientRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk appointment import from NDJSON or CSV. The input is streamed and
+ * handled in chunks, one transaction per chunk: patients and doctors are
+ * resolved with one lookup each, the (doctor, day) locks taken by single
+ * bookings are acquired in a fixed order, conflicts are checked in memory
+ * against one range query of existing bookings, and accepted rows are
+ * inserted with a JDBC batch.
+ *
+ * Rows are validated individually; a rejected row never fails the import.
+ */
+@Service
+@Slf4j
+public class AppointmentImportService {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("patientId", "doctorId", "appointmentDate", "appointmentTime");
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentBatchWriter batchWriter;
+    private final DashboardCounterService dashboardCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate chunkTx;
+    private final int chunkSize;
+
+    public AppointmentImportService(PatientRepository patientRepository, DoctorRepository doctorRepository,
+            AppointmentRepository appointmentRepository, AppointmentBatchWriter batchWriter,
+            DashboardCounterService dashboardCounterService,
+            ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${appointments.import.chunk-size:1000}") int chunkSize) {
+        this.patientRepository = patientRepository;
+        this.doctorRepository = doctorRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.batchWriter = batchWriter;
+        this.dashboardCounterService = dashboardCounterService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        // As for single bookings: the conflict check must see rows committed while waiting for a day lock
+        this.chunkTx.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * One appointment to import; status defaults to SCHEDULED.
+     */
+    public record ImportRow(Long patientId, Long doctorId, LocalDate appointmentDate, LocalTime appointmentTime,
+            AppointmentStatus status, String reason, String notes) {
+    }
+
+    private record Line(int number, ImportRow row) {
+    }
+
+    // Patients and doctors already looked up during one import
+    private static class References {
+        final Set<Long> patients = new HashSet<>();
+        final Map<Long, Doctor> doctors = new HashMap<>();
+        final Set<Long> missingPatients = new HashSet<>();
+        final Set<Long> missingDoctors = new HashSet<>();
+    }
+
+    // ========== Import ==========
+
+    public AppointmentImportReport importAppointments(InputStream input, Format format) {
+        long started = System.currentTimeMillis();
+        List<RowResult> results = new ArrayList<>();
+        References references = new References();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = null;
+            List<Line> chunk = new ArrayList<>(chunkSize);
+            String text;
+            int number = 0;
+            while ((text = reader.readLine()) != null) {
+                number++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && header == null) {
+                    header = parseHeader(text);
+                    continue;
+                }
+                try {
+                    ImportRow row = format == Format.CSV
+                            ? parseCsvRow(header, text)
+                            : objectMapper.readValue(text, ImportRow.class);
+                    chunk.add(new Line(number, row));
+                } catch (IOException | RuntimeException e) {
+                    results.add(RowResult.rejected(number, "Unreadable row: " + e.getMessage()));
+                }
+                if (chunk.size() >= chunkSize) {
+                    results.addAll(importChunk(chunk, references));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                results.addAll(importChunk(chunk, references));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read import: " + e.getMessage());
+        }
+
+        results.sort(Comparator.comparingInt(RowResult::getLine));
+        int imported = (int) results.stream().filter(r -> r.getOutcome() == Outcome.IMPORTED).count();
+        long durationMs = System.currentTimeMillis() - started;
+        double rowsPerSecond = durationMs > 0 ? results.size() * 1000.0 / durationMs : results.size();
+        log.info("Imported {} of {} appointments in {} ms", imported, results.size(), durationMs);
+        return AppointmentImportReport.builder()
+                .totalRows(results.size())
+                .imported(imported)
+                .rejected(results.size() - imported)
+                .durationMs(durationMs)
+                .rowsPerSecond(rowsPerSecond)
+                .rows(results)
+                .build();
+    }
+
+    private List<RowResult> importChunk(List<Line> lines, References references) {
+        try {
+            return chunkTx.execute(status -> importChunkInTransaction(lines, references));
+        } catch (RuntimeException e) {
+            log.warn("Appointment import chunk failed: {}", e.getMessage());
+            return lines.stream()
+                    .map(line -> RowResult.rejected(line.number(), "Import failed: " + e.getMessage()))
+                    .toList();
+        }
+    }
+
+    private List<RowResult> importChunkInTransaction(List<Line> lines, References references) {
+        resolveReferences(lines, references);
+
+        List<RowResult> results = new ArrayList<>();
+        Map<DoctorDay, List<Line>> partitions = new TreeMap<>(AppointmentBatchWriter.LOCK_ORDER);
+        for (Line line : lines) {
+            String error = validate(line.row(), references);
+            if (error != null) {
+                results.add(RowResult.rejected(line.number(), error));
+            } else {
+                ImportRow row = line.row();
+                DoctorDay day = new DoctorDay(row.doctorId(), row.appointmentDate());
+                partitions.computeIfAbsent(day, k -> new ArrayList<>()).add(line);
+            }
+        }
+        if (partitions.isEmpty()) {
+            return results;
+        }
+
+        batchWriter.lockDays(partitions.keySet());
+
+        Map<DoctorDay, BitSet> booked = loadBookedMinutes(partitions.keySet(), references);
+        List<Line> accepted = new ArrayList<>();
+        partitions.forEach((key, partition) -> {
+            BitSet minutes = booked.computeIfAbsent(key, k -> new BitSet(MINUTES_PER_DAY));
+            int length = SlotAvailabilityEngine.slotMinutes(references.doctors.get(key.doctorId()));
+            for (Line line : partition) {
+                if (!isActive(statusOf(line.row()))) {
+                    accepted.add(line);
+                    continue;
+                }
+                int start = minuteOfDay(line.row().appointmentTime());
+                int end = Math.min(start + length, MINUTES_PER_DAY);
+                int next = minutes.nextSetBit(start);
+                if (next != -1 && next < end) {
+                    results.add(RowResult.rejected(line.number(), String.format(
+                            "Appointment conflict: Doctor already has an appointment overlapping %s on %s",
+                            line.row().appointmentTime(), key.date())));
+                } else {
+                    minutes.set(start, end);
+                    accepted.add(line);
+                }
+            }
+        });
+
+        List<Long> ids = batchWriter.insert(accepted.stream()
+                .map(line -> {
+                    ImportRow row = line.row();
+                    return new NewAppointment(row.patientId(), row.doctorId(), row.appointmentDate(),
+                            row.appointmentTime(), statusOf(row), row.reason(), row.notes(), null);
+                })
+                .toList());
+        Set<Long> doctorIds = new LinkedHashSet<>();
+        Set<Long> patientIds = new LinkedHashSet<>();
+        for (int i = 0; i < accepted.size(); i++) {
+            ImportRow row = accepted.get(i).row();
+            results.add(RowResult.imported(accepted.get(i).number(), ids.get(i)));
+            dashboardCounterService.appointmentCreated(statusOf(row));
+            doctorIds.add(row.doctorId());
+            patientIds.add(row.patientId());
+        }
+        if (!accepted.isEmpty()) {
+            eventPublisher.publishEvent(new AppointmentsBookedEvent(doctorIds, patientIds, accepted.size()));
+        }
+        return results;
+    }
+
+    /**
+     * Looks up the patients and doctors of a chunk not seen in earlier chunks,
+     * with one query each.
+     */
+    private void resolveReferences(List<Line> lines, References references) {
+        Set<Long> patientIds = new HashSet<>();
+        Set<Long> doctorIds = new HashSet<>();
+        for (Line line : lines) {
+            Long patientId = line.row().patientId();
+            Long doctorId = line.row().doctorId();
+            if (patientId != null && !references.patients.contains(patientId)
+                    && !references.missingPatients.contains(patientId)) {
+                patientIds.add(patientId);
+            }
+            if (doctorId != null && !references.doctors.containsKey(doctorId)
+                    && !references.missingDoctors.contains(doctorId)) {
+                doctorIds.add(doctorId);
+            }
+        }
+        if (!patientIds.isEmpty()) {
+            for (Patient patient : patientRepository.findAllById(patientIds)) {
+                references.patients.add(patient.getId());
+            }
+            patientIds.removeAll(references.patients);
+            references.missingPatients.addAll(patientIds);
+        }
+        if (!doctorIds.isEmpty()) {
+            for (Doctor doctor : doctorRepository.findAllById(doctorIds)) {
+                references.doctors.put(doctor.getId(), doctor);
+            }
+            doctorIds.removeAll(references.doctors.keySet());
+            references.missingDoctors.addAll(doctorIds);
+        }
+    }
+
+    private String validate(ImportRow row, References references) {
+        for (String column : REQUIRED_COLUMNS) {
+            Object value = switch (column) {
+                case "patientId" -> row.patientId();
+                case "doctorId" -> row.doctorId();
+                case "appointmentDate" -> row.appointmentDate();
+                default -> row.appointmentTime();
+            };
+            if (value == null) {
+                return "Missing " + column;
+            }
+        }
+        if (references.missingPatients.contains(row.patientId())) {
+            return "Patient not found with id: " + row.patientId();
+        }
+        if (references.missingDoctors.contains(row.doctorId())) {
+            return "Doctor not found with id: " + row.doctorId();
+        }
+        return null;
+    }
+
+    /**
+     * Minutes covered by existing active bookings on the given doctor days, from
+     * one range query over the doctors and dates involved.
+     */
+    private Map<DoctorDay, BitSet> loadBookedMinutes(Set<DoctorDay> keys, References references) {
+        Set<Long> doctorIds = new LinkedHashSet<>();
+        LocalDate first = null;
+        LocalDate last = null;
+        for (DoctorDay key : keys) {
+            doctorIds.add(key.doctorId());
+            first = first == null || key.date().isBefore(first) ? key.date() : first;
+            last = last == null || key.date().isAfter(last) ? key.date() : last;
+        }
+
+        Map<DoctorDay, BitSet> booked = new HashMap<>();
+        for (BookedTime booking : appointmentRepository.findBookedTimesForDoctors(
+                new ArrayList<>(doctorIds), first, last)) {
+            DoctorDay key = new DoctorDay(booking.getDoctorId(), booking.getDate());
+            if (!keys.contains(key)) {
+                continue;
+            }
+            int start = minuteOfDay(booking.getTime());
+            int length = SlotAvailabilityEngine.slotMinutes(references.doctors.get(key.doctorId()));
+            booked.computeIfAbsent(key, k -> new BitSet(MINUTES_PER_DAY))
+                    .set(start, Math.min(start + length, MINUTES_PER_DAY));
+        }
+        return booked;
+    }
+
+    private static AppointmentStatus statusOf(ImportRow row) {
+        return row.status() != null ? row.status() : AppointmentStatus.SCHEDULED;
+    }
+
+    private static boolean isActive(AppointmentStatus status) {
+        return status != AppointmentStatus.CANCELLED && status != AppointmentStatus.NO_SHOW;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    // ========== CSV ==========
+
+    private List<String> parseHeader(String text) {
+        List<String> header = splitCsv(text).stream().map(String::trim).toList();
+        for (String column : REQUIRED_COLUMNS) {
+            if (header.stream().noneMatch(column::equalsIgnoreCase)) {
+                throw new RuntimeException("CSV header is missing column: " + column);
+            }
+        }
+        return header;
+    }
+
+    private ImportRow parseCsvRow(List<String> header, String text) {
+        List<String> values = splitCsv(text);
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                fields.put(header.get(i).toLowerCase(Locale.ROOT), value);
+            }
+        }
+        String status = fields.get("status");
+        return new ImportRow(
+                fields.containsKey("patientid") ? Long.valueOf(fields.get("patientid")) : null,
+                fields.containsKey("doctorid") ? Long.valueOf(fields.get("doctorid")) : null,
+                fields.containsKey("appointmentdate") ? LocalDate.parse(fields.get("appointmentdate")) : null,
+                fields.containsKey("appointmenttime") ? LocalTime.parse(fields.get("appointmenttime")) : null,
+                status != null ? AppointmentStatus.valueOf(status.toUpperCase(Locale.ROOT)) : null,
+                fields.get("reason"),
+                fields.get("notes"));
+    }
+
+    /**
+     * Splits one CSV line; fields may be quoted, with "" for a literal quote.
+     */
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
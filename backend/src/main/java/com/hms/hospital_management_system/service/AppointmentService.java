@@ -1,42 +1,116 @@
 package com.hms.hospital_management_system.service;
 
+import com.hms.hospital_management_system.dto.CursorPage;
+import com.hms.hospital_management_system.dto.DoctorAvailability;
+import com.hms.hospital_management_system.dto.NextAvailableSlot;
+import com.hms.hospital_management_system.dto.RecurringAppointmentRequest;
+import com.hms.hospital_management_system.dto.RecurringSeriesResult;
 import com.hms.hospital_management_system.entity.Appointment;
 import com.hms.hospital_management_system.entity.Appointment.AppointmentStatus;
 import com.hms.hospital_management_system.entity.Patient;
 import com.hms.hospital_management_system.entity.Doctor;
+import com.hms.hospital_management_system.event.AppointmentChangedEvent;
+import com.hms.hospital_management_system.event.AppointmentChangedEvent.ChangeType;
+import com.hms.hospital_management_system.event.AppointmentSlotReleasedEvent;
+import com.hms.hospital_management_system.event.AppointmentsBookedEvent;
+import com.hms.hospital_management_system.repository.AppointmentDayLockRepository;
 import com.hms.hospital_management_system.repository.AppointmentRepository;
+import com.hms.hospital_management_system.repository.AppointmentRepository.AppointmentSummary;
+import com.hms.hospital_management_system.repository.AppointmentRepository.BookedTime;
+import com.hms.hospital_management_system.repository.AppointmentSpecifications;
 import com.hms.hospital_management_system.repository.PatientRepository;
 import com.hms.hospital_management_system.repository.DoctorRepository;
+import com.hms.hospital_management_system.service.AppointmentBatchWriter.DoctorDay;
+import com.hms.hospital_management_system.service.AppointmentBatchWriter.NewAppointment;
+import com.hms.hospital_management_system.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class AppointmentService {
 
+    private static final int MAX_AVAILABILITY_DAYS = 31;
+    private static final int MAX_AVAILABILITY_DOCTORS = 200;
+    private static final int MAX_SEARCH_HORIZON_DAYS = 90;
+    private static final int MAX_FILTER_PAGE_SIZE = 100;
+    private static final int MAX_SERIES_OCCURRENCES = 104;
+
+    // Filter sort keys accepted by the API and the entity property each one orders by
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "date", "appointmentDate",
+            "time", "appointmentTime",
+            "patient", "patient.firstName",
+            "doctor", "doctor.firstName",
+            "status", "status",
+            "createdAt", "createdAt");
+
     private final AppointmentRepository appointmentRepository;
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
-    
-    // Default appointment duration in minutes
-    private static final int APPOINTMENT_DURATION_MINUTES = 30;
+    private final DashboardCounterService dashboardCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotAvailabilityEngine slotAvailabilityEngine;
+    private final AppointmentDayLockRepository appointmentDayLockRepository;
+    private final AppointmentBatchWriter batchWriter;
 
     public List<Appointment> getAllAppointments() {
         return appointmentRepository.findAll();
     }
 
+    /**
+     * One slice of appointments, newest first, optionally limited to a doctor
+     * or patient; pass the previous slice's cursor to continue.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Appointment> getAppointmentsPage(Long doctorId, Long patientId, String cursor, int size) {
+        int limit = CursorPage.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        List<Appointment> rows = after == null
+                ? appointmentRepository.findNewestFirst(doctorId, patientId, fetch)
+                : appointmentRepository.findNewestFirstAfter(doctorId, patientId, after.date(), after.id(), fetch);
+        return CursorPage.of(rows, limit, a -> new KeysetCursor(a.getAppointmentDate(), a.getId()));
+    }
+
+    /**
+     * Calendar/list view of appointments, optionally limited to a doctor, a
+     * patient and/or a date, read with a single join query.
+     */
+    @Transactional(readOnly = true)
+    public List<AppointmentSummary> getAppointmentSummaries(Long doctorId, Long patientId, LocalDate date) {
+        return appointmentRepository.findSummaries(doctorId, patientId, date);
+    }
+
     public Optional<Appointment> getAppointmentById(Long id) {
         return appointmentRepository.findById(id);
     }
 
+    // Read committed, so the conflict check sees bookings committed while waiting for the day lock
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Appointment createAppointment(Appointment appointment, Long patientId, Long doctorId) {
         Patient patient = patientRepository.findById(patientId)
                 .orElseThrow(() -> new RuntimeException("Patient not found with id: " + patientId));
@@ -44,15 +118,137 @@ public class AppointmentService {
                 .orElseThrow(() -> new RuntimeException("Doctor not found with id: " + doctorId));
 
         // Check for appointment conflicts
-        validateNoConflict(doctorId, appointment.getAppointmentDate(), 
+        validateNoConflict(doctor, appointment.getAppointmentDate(), 
                 appointment.getAppointmentTime(), null);
 
         appointment.setPatient(patient);
         appointment.setDoctor(doctor);
         
-        return appointmentRepository.save(appointment);
+        Appointment saved = appointmentRepository.save(appointment);
+        dashboardCounterService.appointmentCreated(saved.getStatus());
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.CREATED, saved));
+        return saved;
+    }
+
+    /**
+     * Books a weekly or biweekly series. All occurrences are checked against the
+     * doctor's bookings from one range query under the day locks of every
+     * occurrence, and the free ones are inserted in one batch. Unless partial
+     * booking is allowed, a single conflict books nothing.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public RecurringSeriesResult bookRecurringSeries(RecurringAppointmentRequest request) {
+        if (request.getPatientId() == null || request.getDoctorId() == null || request.getStartDate() == null
+                || request.getAppointmentTime() == null || request.getFrequency() == null) {
+            throw new RuntimeException("patientId, doctorId, startDate, appointmentTime and frequency are required");
+        }
+        if ((request.getCount() == null) == (request.getUntil() == null)) {
+            throw new RuntimeException("Specify either count or until");
+        }
+        Patient patient = patientRepository.findById(request.getPatientId())
+                .orElseThrow(() -> new RuntimeException("Patient not found with id: " + request.getPatientId()));
+        Doctor doctor = findDoctor(request.getDoctorId());
+
+        List<LocalDate> dates = expandOccurrences(request);
+        batchWriter.lockDays(dates.stream().map(date -> new DoctorDay(doctor.getId(), date)).toList());
+
+        // Existing bookings on the series' days, from a single range query
+        Map<LocalDate, List<LocalTime>> bookedByDate = new HashMap<>();
+        Set<LocalDate> seriesDates = new HashSet<>(dates);
+        for (BookedTime booking : appointmentRepository.findBookedTimesForDoctors(
+                List.of(doctor.getId()), dates.get(0), dates.get(dates.size() - 1))) {
+            if (seriesDates.contains(booking.getDate())) {
+                bookedByDate.computeIfAbsent(booking.getDate(), d -> new ArrayList<>()).add(booking.getTime());
+            }
+        }
+
+        int length = SlotAvailabilityEngine.slotMinutes(doctor);
+        int start = request.getAppointmentTime().toSecondOfDay() / 60;
+        List<RecurringSeriesResult.Occurrence> occurrences = new ArrayList<>();
+        List<LocalDate> free = new ArrayList<>();
+        for (LocalDate date : dates) {
+            LocalTime conflict = null;
+            for (LocalTime existing : bookedByDate.getOrDefault(date, List.of())) {
+                int other = existing.toSecondOfDay() / 60;
+                if (other < start + length && start < other + length) {
+                    conflict = existing;
+                    break;
+                }
+            }
+            if (conflict == null) {
+                free.add(date);
+            }
+            occurrences.add(RecurringSeriesResult.Occurrence.builder()
+                    .date(date)
+                    .time(request.getAppointmentTime())
+                    .outcome(conflict != null ? RecurringSeriesResult.Outcome.CONFLICT
+                            : RecurringSeriesResult.Outcome.NOT_BOOKED)
+                    .conflictingTime(conflict)
+                    .build());
+        }
+
+        int conflicts = dates.size() - free.size();
+        boolean book = !free.isEmpty() && (conflicts == 0 || request.isAllowPartial());
+        String seriesId = null;
+        if (book) {
+            seriesId = UUID.randomUUID().toString();
+            String id = seriesId;
+            List<Long> ids = batchWriter.insert(free.stream()
+                    .map(date -> new NewAppointment(patient.getId(), doctor.getId(), date,
+                            request.getAppointmentTime(), AppointmentStatus.SCHEDULED,
+                            request.getReason(), request.getNotes(), id))
+                    .toList());
+            Map<LocalDate, Long> idByDate = new HashMap<>();
+            for (int i = 0; i < free.size(); i++) {
+                idByDate.put(free.get(i), ids.get(i));
+                dashboardCounterService.appointmentCreated(AppointmentStatus.SCHEDULED);
+            }
+            for (RecurringSeriesResult.Occurrence occurrence : occurrences) {
+                Long appointmentId = idByDate.get(occurrence.getDate());
+                if (appointmentId != null) {
+                    occurrence.setOutcome(RecurringSeriesResult.Outcome.BOOKED);
+                    occurrence.setAppointmentId(appointmentId);
+                }
+            }
+            eventPublisher.publishEvent(new AppointmentsBookedEvent(
+                    Set.of(doctor.getId()), Set.of(patient.getId()), free.size()));
+        }
+
+        return RecurringSeriesResult.builder()
+                .seriesId(seriesId)
+                .requested(dates.size())
+                .booked(book ? free.size() : 0)
+                .conflicts(conflicts)
+                .occurrences(occurrences)
+                .build();
     }
 
+    private List<LocalDate> expandOccurrences(RecurringAppointmentRequest request) {
+        int stepWeeks = request.getFrequency().getWeeks();
+        List<LocalDate> dates = new ArrayList<>();
+        if (request.getCount() != null) {
+            if (request.getCount() < 1 || request.getCount() > MAX_SERIES_OCCURRENCES) {
+                throw new RuntimeException("count must be between 1 and " + MAX_SERIES_OCCURRENCES);
+            }
+            for (int i = 0; i < request.getCount(); i++) {
+                dates.add(request.getStartDate().plusWeeks((long) i * stepWeeks));
+            }
+            return dates;
+        }
+        if (request.getUntil().isBefore(request.getStartDate())) {
+            throw new RuntimeException("until must not be before startDate");
+        }
+        for (LocalDate date = request.getStartDate(); !date.isAfter(request.getUntil());
+                date = date.plusWeeks(stepWeeks)) {
+            if (dates.size() == MAX_SERIES_OCCURRENCES) {
+                throw new RuntimeException("A series may have at most " + MAX_SERIES_OCCURRENCES + " occurrences");
+            }
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Appointment updateAppointment(Long id, Appointment appointmentDetails) {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Appointment not found with id: " + id));
@@ -60,41 +256,60 @@ public class AppointmentService {
         // Check for conflicts only if date/time or doctor changed
         if (appointmentDetails.getAppointmentDate() != null && 
             appointmentDetails.getAppointmentTime() != null) {
-            Long doctorId = appointment.getDoctor().getId();
-            validateNoConflict(doctorId, appointmentDetails.getAppointmentDate(), 
+            validateNoConflict(appointment.getDoctor(), appointmentDetails.getAppointmentDate(), 
                     appointmentDetails.getAppointmentTime(), id);
         }
 
+        AppointmentStatus previousStatus = appointment.getStatus();
+        LocalDate previousDate = appointment.getAppointmentDate();
+        LocalTime previousTime = appointment.getAppointmentTime();
         appointment.setAppointmentDate(appointmentDetails.getAppointmentDate());
         appointment.setAppointmentTime(appointmentDetails.getAppointmentTime());
         appointment.setStatus(appointmentDetails.getStatus());
         appointment.setReason(appointmentDetails.getReason());
         appointment.setNotes(appointmentDetails.getNotes());
 
+        // A cancellation or reschedule made through the edit form frees the old slot too
+        boolean moved = !Objects.equals(previousDate, appointment.getAppointmentDate())
+                || !Objects.equals(previousTime, appointment.getAppointmentTime());
+        boolean releasesSlot = isActive(previousStatus) && (!isActive(appointment.getStatus()) || moved);
+
+        dashboardCounterService.appointmentStatusChanged(previousStatus, appointment.getStatus());
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.UPDATED, appointment));
+        if (releasesSlot) {
+            publishSlotReleased(appointment, previousDate, previousTime);
+        }
         return appointmentRepository.save(appointment);
     }
     
     /**
      * Validates that there is no conflicting appointment for the doctor at the given date/time.
-     * An appointment conflicts if it's within the appointment duration window.
+     * An appointment conflicts if the two overlap, each lasting one of the doctor's slots.
+     * Checked against the database rather than the availability cache, as the write is.
+     * 
+     * Takes the lock on the doctor's day first and holds it until commit, so no other
+     * booking for that doctor and day can pass the check before this one is saved.
      * 
-     * @param doctorId The doctor's ID
+     * @param doctor The doctor
      * @param date The appointment date
      * @param time The appointment time
      * @param excludeAppointmentId Optional appointment ID to exclude (for updates)
      * @throws RuntimeException if a conflict is found
      */
-    private void validateNoConflict(Long doctorId, LocalDate date, LocalTime time, Long excludeAppointmentId) {
-        LocalTime startTime = time.minusMinutes(APPOINTMENT_DURATION_MINUTES);
-        LocalTime endTime = time.plusMinutes(APPOINTMENT_DURATION_MINUTES);
+    private void validateNoConflict(Doctor doctor, LocalDate date, LocalTime time, Long excludeAppointmentId) {
+        appointmentDayLockRepository.acquire(doctor.getId(), date);
+
+        int duration = SlotAvailabilityEngine.slotMinutes(doctor);
+        LocalTime startTime = time.minusMinutes(duration);
+        LocalTime endTime = time.plusMinutes(duration);
         
         List<Appointment> conflicts;
         if (excludeAppointmentId != null) {
             conflicts = appointmentRepository.findConflictingAppointmentsExcluding(
-                    doctorId, date, startTime, endTime, excludeAppointmentId);
+                    doctor.getId(), date, startTime, endTime, excludeAppointmentId);
         } else {
             conflicts = appointmentRepository.findConflictingAppointments(
-                    doctorId, date, startTime, endTime);
+                    doctor.getId(), date, startTime, endTime);
         }
         
         if (!conflicts.isEmpty()) {
@@ -110,49 +325,161 @@ public class AppointmentService {
      * Check if a time slot is available for a doctor
      */
     public boolean isTimeSlotAvailable(Long doctorId, LocalDate date, LocalTime time) {
-        LocalTime startTime = time.minusMinutes(APPOINTMENT_DURATION_MINUTES);
-        LocalTime endTime = time.plusMinutes(APPOINTMENT_DURATION_MINUTES);
-        
-        List<Appointment> conflicts = appointmentRepository.findConflictingAppointments(
-                doctorId, date, startTime, endTime);
-        
-        return conflicts.isEmpty();
+        return slotAvailabilityEngine.isFree(findDoctor(doctorId), date, time);
     }
     
     /**
-     * Get available time slots for a doctor on a specific date
+     * Get available time slots for a doctor on a specific date, within the
+     * doctor's working hours and in the doctor's slot length
      */
     public List<LocalTime> getAvailableTimeSlots(Long doctorId, LocalDate date) {
-        // Define working hours (9 AM to 5 PM with 30-minute slots)
-        List<LocalTime> allSlots = List.of(
-            LocalTime.of(9, 0), LocalTime.of(9, 30),
-            LocalTime.of(10, 0), LocalTime.of(10, 30),
-            LocalTime.of(11, 0), LocalTime.of(11, 30),
-            LocalTime.of(12, 0), LocalTime.of(12, 30),
-            LocalTime.of(13, 0), LocalTime.of(13, 30),
-            LocalTime.of(14, 0), LocalTime.of(14, 30),
-            LocalTime.of(15, 0), LocalTime.of(15, 30),
-            LocalTime.of(16, 0), LocalTime.of(16, 30)
-        );
-        
-        return allSlots.stream()
-                .filter(slot -> isTimeSlotAvailable(doctorId, date, slot))
+        return slotAvailabilityEngine.getFreeSlots(findDoctor(doctorId), date);
+    }
+
+    /**
+     * Free slots for a set of doctors over a date range in one call. Doctors are
+     * given by id, or selected by department and/or specialization; when both
+     * ids and filters are given, only the listed doctors matching the filters
+     * are returned.
+     */
+    @Transactional(readOnly = true)
+    public List<DoctorAvailability> getAvailability(Long departmentId, String specialization,
+            List<Long> doctorIds, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new RuntimeException("End date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > MAX_AVAILABILITY_DAYS) {
+            throw new RuntimeException("Date range must not exceed " + MAX_AVAILABILITY_DAYS + " days");
+        }
+        List<Doctor> doctors = selectDoctors(departmentId, specialization, doctorIds);
+        if (doctors.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Map<LocalDate, List<LocalTime>>> free =
+                slotAvailabilityEngine.getFreeSlots(doctors, startDate, endDate);
+        return doctors.stream()
+                .map(doctor -> DoctorAvailability.builder()
+                        .doctorId(doctor.getId())
+                        .doctorName("Dr. " + doctor.getFirstName() + " " + doctor.getLastName())
+                        .specialization(doctor.getSpecialization())
+                        .slotMinutes(SlotAvailabilityEngine.slotMinutes(doctor))
+                        .days(free.get(doctor.getId()).entrySet().stream()
+                                .map(day -> new DoctorAvailability.DayAvailability(day.getKey(), day.getValue()))
+                                .toList())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * The earliest free slot with any of the selected doctors from now until
+     * {@code horizonDays} ahead, long enough for {@code durationMinutes} (one
+     * slot of the doctor's length when null).
+     */
+    @Transactional(readOnly = true)
+    public Optional<NextAvailableSlot> findNextAvailable(Long departmentId, String specialization,
+            List<Long> doctorIds, Integer durationMinutes, int horizonDays) {
+        if (horizonDays < 1 || horizonDays > MAX_SEARCH_HORIZON_DAYS) {
+            throw new RuntimeException("horizonDays must be between 1 and " + MAX_SEARCH_HORIZON_DAYS);
+        }
+        if (durationMinutes != null && (durationMinutes < 1 || durationMinutes > 24 * 60)) {
+            throw new RuntimeException("durationMinutes must be between 1 and " + 24 * 60);
+        }
+        List<Doctor> doctors = selectDoctors(departmentId, specialization, doctorIds);
+        if (doctors.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return slotAvailabilityEngine
+                .findEarliest(doctors, now, now.toLocalDate().plusDays(horizonDays - 1L), durationMinutes)
+                .map(match -> NextAvailableSlot.builder()
+                        .doctorId(match.doctor().getId())
+                        .doctorName("Dr. " + match.doctor().getFirstName() + " " + match.doctor().getLastName())
+                        .specialization(match.doctor().getSpecialization())
+                        .date(match.date())
+                        .time(match.time())
+                        .durationMinutes(durationMinutes != null ? durationMinutes
+                                : SlotAvailabilityEngine.slotMinutes(match.doctor()))
+                        .build());
+    }
+
+    private List<Doctor> selectDoctors(Long departmentId, String specialization, List<Long> doctorIds) {
+        boolean bySpecialization = specialization != null && !specialization.isBlank();
+
+        List<Doctor> candidates;
+        if (doctorIds != null && !doctorIds.isEmpty()) {
+            candidates = doctorRepository.findAllById(doctorIds);
+        } else if (departmentId != null) {
+            candidates = doctorRepository.findByDepartmentId(departmentId);
+        } else if (bySpecialization) {
+            candidates = doctorRepository.findBySpecializationContainingIgnoreCase(specialization.trim());
+        } else {
+            throw new RuntimeException("Specify doctorIds, departmentId or specialization");
+        }
+
+        List<Doctor> doctors = candidates.stream()
+                .filter(d -> departmentId == null
+                        || (d.getDepartment() != null && departmentId.equals(d.getDepartment().getId())))
+                .filter(d -> !bySpecialization || (d.getSpecialization() != null
+                        && d.getSpecialization().toLowerCase().contains(specialization.trim().toLowerCase())))
+                .sorted(Comparator.comparing(Doctor::getId))
                 .toList();
+        if (doctors.size() > MAX_AVAILABILITY_DOCTORS) {
+            throw new RuntimeException("Too many doctors selected; narrow the request to at most "
+                    + MAX_AVAILABILITY_DOCTORS);
+        }
+        return doctors;
+    }
+
+    private Doctor findDoctor(Long doctorId) {
+        return doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new RuntimeException("Doctor not found with id: " + doctorId));
     }
 
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Appointment updateAppointmentStatus(Long id, AppointmentStatus status) {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Appointment not found with id: " + id));
+
+        // Reactivating a cancelled or no-show appointment books its slot again
+        if (!isActive(appointment.getStatus()) && isActive(status)) {
+            validateNoConflict(appointment.getDoctor(), appointment.getAppointmentDate(),
+                    appointment.getAppointmentTime(), id);
+        }
         
+        boolean releasesSlot = isActive(appointment.getStatus()) && !isActive(status);
+        dashboardCounterService.appointmentStatusChanged(appointment.getStatus(), status);
         appointment.setStatus(status);
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.STATUS_CHANGED, appointment));
+        if (releasesSlot) {
+            publishSlotReleased(appointment);
+        }
         return appointmentRepository.save(appointment);
     }
 
+    private static boolean isActive(AppointmentStatus status) {
+        return status != AppointmentStatus.CANCELLED && status != AppointmentStatus.NO_SHOW;
+    }
+
     public void deleteAppointment(Long id) {
-        if (!appointmentRepository.existsById(id)) {
-            throw new RuntimeException("Appointment not found with id: " + id);
+        Appointment appointment = appointmentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Appointment not found with id: " + id));
+        appointmentRepository.delete(appointment);
+        dashboardCounterService.appointmentDeleted(appointment.getStatus());
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(ChangeType.DELETED, appointment));
+        if (isActive(appointment.getStatus())) {
+            publishSlotReleased(appointment);
         }
-        appointmentRepository.deleteById(id);
+    }
+
+    private void publishSlotReleased(Appointment appointment) {
+        publishSlotReleased(appointment, appointment.getAppointmentDate(), appointment.getAppointmentTime());
+    }
+
+    private void publishSlotReleased(Appointment appointment, LocalDate date, LocalTime time) {
+        eventPublisher.publishEvent(new AppointmentSlotReleasedEvent(appointment.getId(),
+                appointment.getDoctor().getId(), date, time));
     }
 
     public List<Appointment> getAppointmentsByPatient(Long patientId) {
@@ -183,40 +510,22 @@ public class AppointmentService {
         return appointmentRepository.findByAppointmentDate(LocalDate.now());
     }
 
-    public List<Appointment> filterAppointments(AppointmentStatus status, Long doctorId, Long patientId, 
-            LocalDate startDate, LocalDate endDate, String sortBy, String sortOrder) {
-        List<Appointment> appointments = appointmentRepository.findAll();
-        
-        List<Appointment> filtered = appointments.stream()
-            .filter(a -> status == null || a.getStatus() == status)
-            .filter(a -> doctorId == null || (a.getDoctor() != null && a.getDoctor().getId().equals(doctorId)))
-            .filter(a -> patientId == null || (a.getPatient() != null && a.getPatient().getId().equals(patientId)))
-            .filter(a -> startDate == null || (a.getAppointmentDate() != null && !a.getAppointmentDate().isBefore(startDate)))
-            .filter(a -> endDate == null || (a.getAppointmentDate() != null && !a.getAppointmentDate().isAfter(endDate)))
-            .toList();
-
-        if (sortBy != null && !sortBy.isEmpty()) {
-            Comparator<Appointment> comparator = getAppointmentComparator(sortBy);
-            if (comparator != null) {
-                if ("desc".equalsIgnoreCase(sortOrder)) {
-                    comparator = comparator.reversed();
-                }
-                filtered = filtered.stream().sorted(comparator).toList();
-            }
+    /**
+     * One page of appointments matching the optional filters, filtered, sorted
+     * and paged by the database. Unknown sort keys fall back to id order.
+     */
+    @Transactional(readOnly = true)
+    public Page<Appointment> filterAppointments(AppointmentStatus status, Long doctorId, Long patientId,
+            LocalDate startDate, LocalDate endDate, String sortBy, String sortOrder, int page, int size) {
+        Sort sort = Sort.by("id");
+        String property = sortBy != null ? SORT_PROPERTIES.get(sortBy) : null;
+        if (property != null) {
+            Sort.Direction direction = "desc".equalsIgnoreCase(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC;
+            // Id as tie-breaker keeps page boundaries stable between requests
+            sort = Sort.by(direction, property).and(Sort.by(direction, "id"));
         }
-        
-        return filtered;
-    }
-
-    private Comparator<Appointment> getAppointmentComparator(String sortBy) {
-        return switch (sortBy) {
-            case "date" -> Comparator.comparing(Appointment::getAppointmentDate, Comparator.nullsLast(Comparator.naturalOrder()));
-            case "time" -> Comparator.comparing(Appointment::getAppointmentTime, Comparator.nullsLast(Comparator.naturalOrder()));
-            case "patient" -> Comparator.comparing(a -> a.getPatient() != null ? a.getPatient().getFirstName() : "", Comparator.nullsLast(Comparator.naturalOrder()));
-            case "doctor" -> Comparator.comparing(a -> a.getDoctor() != null ? a.getDoctor().getFirstName() : "", Comparator.nullsLast(Comparator.naturalOrder()));
-            case "status" -> Comparator.comparing(a -> a.getStatus() != null ? a.getStatus().name() : "", Comparator.nullsLast(Comparator.naturalOrder()));
-            case "createdAt" -> Comparator.comparing(Appointment::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
-            default -> null;
-        };
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_FILTER_PAGE_SIZE), sort);
+        return appointmentRepository.findAll(
+                AppointmentSpecifications.filter(status, doctorId, patientId, startDate, endDate), pageable);
     }
 }
@@ -29,6 +29,7 @@ public class AuthService {
     private final DoctorRepository doctorRepository;
     private final PatientRepository patientRepository;
     private final DepartmentRepository departmentRepository;
+    private final DashboardCounterService dashboardCounterService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
@@ -73,6 +74,7 @@ public class AuthService {
                     .build();
             
             Patient savedPatient = patientRepository.save(patient);
+            dashboardCounterService.increment(DashboardCounterService.TOTAL_PATIENTS);
             patientId = savedPatient.getId();
         }
 
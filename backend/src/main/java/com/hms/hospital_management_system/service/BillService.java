@@ -1,12 +1,19 @@
 package com.hms.hospital_management_system.service;
 
+import com.hms.hospital_management_system.dto.CursorPage;
 import com.hms.hospital_management_system.entity.Bill;
 import com.hms.hospital_management_system.entity.Bill.PaymentStatus;
 import com.hms.hospital_management_system.entity.Bill.PaymentMethod;
 import com.hms.hospital_management_system.entity.Patient;
+import com.hms.hospital_management_system.event.BillChangedEvent;
+import com.hms.hospital_management_system.event.BillChangedEvent.ChangeType;
 import com.hms.hospital_management_system.repository.BillRepository;
 import com.hms.hospital_management_system.repository.PatientRepository;
+import com.hms.hospital_management_system.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,11 +29,29 @@ public class BillService {
 
     private final BillRepository billRepository;
     private final PatientRepository patientRepository;
+    private final DashboardCounterService dashboardCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RevenueRollupService revenueRollupService;
 
     public List<Bill> getAllBills() {
         return billRepository.findAll();
     }
 
+    /**
+     * One slice of bills, newest first, optionally limited to a patient; pass
+     * the previous slice's cursor to continue.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Bill> getBillsPage(Long patientId, String cursor, int size) {
+        int limit = CursorPage.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        List<Bill> rows = after == null
+                ? billRepository.findNewestFirst(patientId, fetch)
+                : billRepository.findNewestFirstAfter(patientId, after.date(), after.id(), fetch);
+        return CursorPage.of(rows, limit, b -> new KeysetCursor(b.getBillDate(), b.getId()));
+    }
+
     public Optional<Bill> getBillById(Long id) {
         return billRepository.findById(id);
     }
@@ -36,12 +61,18 @@ public class BillService {
                 .orElseThrow(() -> new RuntimeException("Patient not found with id: " + patientId));
 
         bill.setPatient(patient);
-        return billRepository.save(bill);
+        Bill saved = billRepository.save(bill);
+        dashboardCounterService.billChanged(null, null, saved.getPaymentStatus(), saved.getNetAmount());
+        revenueRollupService.billChanged(null, RevenueRollupService.contributionOf(saved));
+        eventPublisher.publishEvent(BillChangedEvent.of(ChangeType.CREATED, saved));
+        return saved;
     }
 
     public Bill updateBill(Long id, Bill billDetails) {
         Bill bill = billRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Bill not found with id: " + id));
+        Double previousNet = bill.getNetAmount();
+        RevenueRollupService.Contribution previous = RevenueRollupService.contributionOf(bill);
 
         bill.setConsultationFee(billDetails.getConsultationFee());
         bill.setMedicineCost(billDetails.getMedicineCost());
@@ -52,17 +83,28 @@ public class BillService {
         bill.setTax(billDetails.getTax());
         bill.setNotes(billDetails.getNotes());
 
-        return billRepository.save(bill);
+        // Flush so the recalculated net amount is known before adjusting revenue
+        Bill saved = billRepository.saveAndFlush(bill);
+        dashboardCounterService.billChanged(saved.getPaymentStatus(), previousNet,
+                saved.getPaymentStatus(), saved.getNetAmount());
+        revenueRollupService.billChanged(previous, RevenueRollupService.contributionOf(saved));
+        eventPublisher.publishEvent(BillChangedEvent.of(ChangeType.UPDATED, saved));
+        return saved;
     }
 
     public Bill processPayment(Long id, PaymentMethod paymentMethod) {
         Bill bill = billRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Bill not found with id: " + id));
         
+        dashboardCounterService.billChanged(bill.getPaymentStatus(), bill.getNetAmount(),
+                PaymentStatus.PAID, bill.getNetAmount());
+        RevenueRollupService.Contribution previous = RevenueRollupService.contributionOf(bill);
         bill.setPaymentStatus(PaymentStatus.PAID);
         bill.setPaymentMethod(paymentMethod);
         bill.setPaymentDate(LocalDate.now());
+        revenueRollupService.billChanged(previous, RevenueRollupService.contributionOf(bill));
         
+        eventPublisher.publishEvent(BillChangedEvent.of(ChangeType.PAID, bill));
         return billRepository.save(bill);
     }
 
@@ -70,19 +112,26 @@ public class BillService {
         Bill bill = billRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Bill not found with id: " + id));
         
+        dashboardCounterService.billChanged(bill.getPaymentStatus(), bill.getNetAmount(),
+                status, bill.getNetAmount());
+        RevenueRollupService.Contribution previous = RevenueRollupService.contributionOf(bill);
         bill.setPaymentStatus(status);
         if (status == PaymentStatus.PAID) {
             bill.setPaymentDate(LocalDate.now());
         }
+        revenueRollupService.billChanged(previous, RevenueRollupService.contributionOf(bill));
         
+        eventPublisher.publishEvent(BillChangedEvent.of(ChangeType.STATUS_CHANGED, bill));
         return billRepository.save(bill);
     }
 
     public void deleteBill(Long id) {
-        if (!billRepository.existsById(id)) {
-            throw new RuntimeException("Bill not found with id: " + id);
-        }
-        billRepository.deleteById(id);
+        Bill bill = billRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Bill not found with id: " + id));
+        billRepository.delete(bill);
+        dashboardCounterService.billChanged(bill.getPaymentStatus(), bill.getNetAmount(), null, null);
+        revenueRollupService.billChanged(RevenueRollupService.contributionOf(bill), null);
+        eventPublisher.publishEvent(BillChangedEvent.of(ChangeType.DELETED, bill));
     }
 
     public List<Bill> getBillsByPatient(Long patientId) {
@@ -106,8 +155,7 @@ public class BillService {
     }
 
     public Double getTotalRevenue(LocalDate startDate, LocalDate endDate) {
-        Double revenue = billRepository.getTotalRevenueByDateRange(startDate, endDate);
-        return revenue != null ? revenue : 0.0;
+        return revenueRollupService.getPaidRevenue(startDate, endDate);
     }
 
     public Double getTotalPendingAmount() {
@@ -0,0 +1,298 @@
+package com.hms.hospital_management_system.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hms.hospital_management_system.dto.CounterReconciliationReport;
+import com.hms.hospital_management_system.dto.CounterReconciliationReport.CounterDrift;
+import com.hms.hospital_management_system.entity.Appointment.AppointmentStatus;
+import com.hms.hospital_management_system.entity.Bill.PaymentStatus;
+import com.hms.hospital_management_system.entity.DashboardCounter;
+import com.hms.hospital_management_system.entity.Medicine;
+import com.hms.hospital_management_system.entity.Room.RoomStatus;
+import com.hms.hospital_management_system.repository.AppointmentRepository;
+import com.hms.hospital_management_system.repository.BillRepository;
+import com.hms.hospital_management_system.repository.DashboardCounterRepository;
+import com.hms.hospital_management_system.repository.MedicineRepository;
+import com.hms.hospital_management_system.repository.PatientRepository;
+import com.hms.hospital_management_system.repository.RoomRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the dashboard_counters table so the admin dashboard can read its
+ * summary tiles from a handful of rows instead of scanning the source tables.
+ * 
+ * Write paths record deltas while their transaction runs. Deltas for the same
+ * counter are coalesced and applied as one relative UPDATE per counter right
+ * before commit, so counters change atomically with the data they describe.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class DashboardCounterService {
+
+    public static final String TOTAL_PATIENTS = "TOTAL_PATIENTS";
+    public static final String TOTAL_APPOINTMENTS = "TOTAL_APPOINTMENTS";
+    public static final String PENDING_BILLS = "PENDING_BILLS";
+    public static final String PAID_BILLS = "PAID_BILLS"; // amount holds the paid revenue
+    public static final String AVAILABLE_ROOMS = "AVAILABLE_ROOMS";
+    public static final String LOW_STOCK_MEDICINES = "LOW_STOCK_MEDICINES";
+    private static final String APPOINTMENT_STATUS_PREFIX = "APPOINTMENT_STATUS_";
+
+    // Medicines without a reorder level fall back to this threshold
+    private static final int DEFAULT_REORDER_LEVEL = 10;
+
+    private final DashboardCounterRepository counterRepository;
+    private final PatientRepository patientRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final BillRepository billRepository;
+    private final RoomRepository roomRepository;
+    private final MedicineRepository medicineRepository;
+
+    // ========== Recording Deltas ==========
+
+    public void increment(String name) {
+        record(name, 1, 0.0);
+    }
+
+    public void decrement(String name) {
+        record(name, -1, 0.0);
+    }
+
+    public void record(String name, long delta, double amount) {
+        if (delta == 0 && amount == 0.0) {
+            return;
+        }
+        pendingDeltas().add(name, delta, amount);
+    }
+
+    public void appointmentCreated(AppointmentStatus status) {
+        increment(TOTAL_APPOINTMENTS);
+        increment(appointmentStatusKey(status));
+    }
+
+    public void appointmentStatusChanged(AppointmentStatus from, AppointmentStatus to) {
+        if (from == to) {
+            return;
+        }
+        decrement(appointmentStatusKey(from));
+        increment(appointmentStatusKey(to));
+    }
+
+    public void appointmentDeleted(AppointmentStatus status) {
+        appointmentsDeleted(status, 1);
+    }
+
+    public void appointmentsDeleted(AppointmentStatus status, long count) {
+        record(TOTAL_APPOINTMENTS, -count, 0.0);
+        record(appointmentStatusKey(status), -count, 0.0);
+    }
+
+    /**
+     * Record a bill moving between payment states. Pass a null status for the
+     * "before" side of a new bill or the "after" side of a deleted one.
+     */
+    public void billChanged(PaymentStatus fromStatus, Double fromAmount, PaymentStatus toStatus, Double toAmount) {
+        double before = fromAmount != null ? fromAmount : 0.0;
+        double after = toAmount != null ? toAmount : 0.0;
+
+        if (fromStatus == PaymentStatus.PENDING) decrement(PENDING_BILLS);
+        if (toStatus == PaymentStatus.PENDING) increment(PENDING_BILLS);
+
+        if (fromStatus == PaymentStatus.PAID) record(PAID_BILLS, -1, -before);
+        if (toStatus == PaymentStatus.PAID) record(PAID_BILLS, 1, after);
+    }
+
+    public void roomStatusChanged(RoomStatus from, RoomStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (from == RoomStatus.AVAILABLE) decrement(AVAILABLE_ROOMS);
+        if (to == RoomStatus.AVAILABLE) increment(AVAILABLE_ROOMS);
+    }
+
+    public void lowStockChanged(boolean wasLow, boolean isLow) {
+        if (wasLow == isLow) {
+            return;
+        }
+        record(LOW_STOCK_MEDICINES, isLow ? 1 : -1, 0.0);
+    }
+
+    public static boolean isLowStock(Medicine medicine) {
+        if (medicine == null || medicine.getStockQuantity() == null) {
+            return false;
+        }
+        int reorderLevel = medicine.getReorderLevel() != null ? medicine.getReorderLevel() : DEFAULT_REORDER_LEVEL;
+        return medicine.getStockQuantity() <= reorderLevel;
+    }
+
+    public static String appointmentStatusKey(AppointmentStatus status) {
+        return APPOINTMENT_STATUS_PREFIX + (status != null ? status.name() : "UNKNOWN");
+    }
+
+    private PendingDeltas pendingDeltas() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingDeltas pending) {
+                return pending;
+            }
+        }
+        PendingDeltas pending = new PendingDeltas();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    /**
+     * Per-transaction buffer of counter deltas, flushed once before commit.
+     * Kept sorted by name so concurrent transactions lock counter rows in the same order.
+     */
+    private class PendingDeltas implements TransactionSynchronization {
+
+        private final Map<String, double[]> deltas = new TreeMap<>();
+
+        void add(String name, long delta, double amount) {
+            double[] totals = deltas.computeIfAbsent(name, k -> new double[2]);
+            totals[0] += delta;
+            totals[1] += amount;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            LocalDateTime now = LocalDateTime.now();
+            deltas.forEach((name, totals) -> {
+                if (totals[0] == 0 && totals[1] == 0.0) {
+                    return;
+                }
+                int updated = counterRepository.applyDelta(name, (long) totals[0], totals[1], now);
+                if (updated == 0) {
+                    // Counter not seeded yet; the next reconciliation will create it
+                    log.debug("Dashboard counter {} missing, delta skipped", name);
+                }
+            });
+        }
+    }
+
+    // ========== Reading ==========
+
+    @Transactional(readOnly = true)
+    public Map<String, DashboardCounter> getCounters() {
+        return counterRepository.findAll().stream()
+                .collect(Collectors.toMap(DashboardCounter::getName, Function.identity()));
+    }
+
+    /**
+     * Appointment counts per status name, skipping statuses with no appointments.
+     */
+    public Map<String, Long> getAppointmentStatusCounts(Map<String, DashboardCounter> counters) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counters.values().stream()
+                .filter(c -> c.getName().startsWith(APPOINTMENT_STATUS_PREFIX) && c.getValue() > 0)
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .forEach(c -> result.put(c.getName().substring(APPOINTMENT_STATUS_PREFIX.length()), c.getValue()));
+        return result;
+    }
+
+    // ========== Reconciliation ==========
+
+    /**
+     * Seeds the counters on startup and rebuilds them on the configured schedule.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${dashboard.counters.reconcile-cron:0 0 3 * * *}")
+    public void scheduledReconcile() {
+        CounterReconciliationReport report = reconcile();
+        log.info("Dashboard counters reconciled: {} checked, {} drifted in {} ms",
+                report.getCountersChecked(), report.getCountersDrifted(), report.getDurationMs());
+    }
+
+    /**
+     * Rebuild every counter from the source tables and report any drift.
+     * Counter rows are locked first, so writers committing meanwhile wait and
+     * then apply their deltas on top of the rebuilt values.
+     */
+    public CounterReconciliationReport reconcile() {
+        long started = System.currentTimeMillis();
+
+        Map<String, DashboardCounter> stored = counterRepository.findAllForUpdate().stream()
+                .collect(Collectors.toMap(DashboardCounter::getName, Function.identity()));
+        Map<String, DashboardCounter> actual = computeActualCounters();
+
+        List<CounterDrift> drifts = new ArrayList<>();
+        for (DashboardCounter fresh : actual.values()) {
+            DashboardCounter current = stored.get(fresh.getName());
+            if (current == null) {
+                counterRepository.save(fresh);
+                continue;
+            }
+            boolean valueDrift = !current.getValue().equals(fresh.getValue());
+            boolean amountDrift = Math.abs(current.getAmount() - fresh.getAmount()) > 0.005;
+            if (valueDrift || amountDrift) {
+                drifts.add(CounterDrift.builder()
+                        .name(fresh.getName())
+                        .storedValue(current.getValue())
+                        .actualValue(fresh.getValue())
+                        .storedAmount(current.getAmount())
+                        .actualAmount(fresh.getAmount())
+                        .build());
+                current.setValue(fresh.getValue());
+                current.setAmount(fresh.getAmount());
+            }
+        }
+
+        if (!drifts.isEmpty()) {
+            log.warn("Dashboard counters drifted: {}", drifts);
+        }
+
+        return CounterReconciliationReport.builder()
+                .reconciledAt(LocalDateTime.now())
+                .countersChecked(actual.size())
+                .countersDrifted(drifts.size())
+                .durationMs(System.currentTimeMillis() - started)
+                .drifts(drifts)
+                .build();
+    }
+
+    private Map<String, DashboardCounter> computeActualCounters() {
+        Map<String, DashboardCounter> counters = new LinkedHashMap<>();
+        put(counters, TOTAL_PATIENTS, patientRepository.count(), 0.0);
+        put(counters, TOTAL_APPOINTMENTS, appointmentRepository.count(), 0.0);
+        put(counters, PENDING_BILLS, billRepository.countByPaymentStatus(PaymentStatus.PENDING), 0.0);
+        put(counters, PAID_BILLS, billRepository.countByPaymentStatus(PaymentStatus.PAID),
+                billRepository.getTotalPaidRevenue());
+        put(counters, AVAILABLE_ROOMS, roomRepository.countByStatus(RoomStatus.AVAILABLE), 0.0);
+        put(counters, LOW_STOCK_MEDICINES, medicineRepository.countLowStockMedicines(), 0.0);
+
+        // Every status gets a row (zero if unused) so deltas always have a target
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            put(counters, appointmentStatusKey(status), 0L, 0.0);
+        }
+        put(counters, appointmentStatusKey(null), 0L, 0.0);
+        appointmentRepository.countGroupedByStatus().forEach(s ->
+                put(counters, appointmentStatusKey(s.getStatus()), s.getCount(), 0.0));
+        return counters;
+    }
+
+    private void put(Map<String, DashboardCounter> counters, String name, long value, Double amount) {
+        counters.put(name, DashboardCounter.builder()
+                .name(name)
+                .value(value)
+                .amount(amount != null ? amount : 0.0)
+                .build());
+    }
+}
@@ -0,0 +1,149 @@
+package com.hms.hospital_management_system.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs independent dashboard sections concurrently, each in its own read-only
+ * transaction (and therefore on its own connection). All sections of one
+ * dashboard computation share a single deadline, {@code section-timeout-ms}
+ * after the batch is created.
+ * 
+ * A section that fails, misses the deadline or cannot be queued because the
+ * pool is saturated is reported as stale and answered with the last value it
+ * produced successfully, so one slow query does not hold back the rest of the
+ * dashboard.
+ */
+@Component
+@Slf4j
+public class DashboardSectionRunner {
+
+    private final TransactionTemplate readOnlyTx;
+    private final ThreadPoolExecutor executor;
+    private final boolean parallel;
+    private final long timeoutMs;
+
+    // Last successful result per section, served when a section goes stale
+    private final Map<String, Object> lastGood = new ConcurrentHashMap<>();
+
+    public DashboardSectionRunner(PlatformTransactionManager transactionManager,
+            @Value("${dashboard.parallel.enabled:true}") boolean parallel,
+            @Value("${dashboard.parallel.pool-size:8}") int poolSize,
+            @Value("${dashboard.parallel.section-timeout-ms:3000}") long timeoutMs) {
+        this.parallel = parallel;
+        this.timeoutMs = timeoutMs;
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // Lets the JDBC driver cancel a runaway query instead of only abandoning its result
+        this.readOnlyTx.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs)));
+
+        // The pool size also caps how many pooled connections dashboard sections can hold at once
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(poolSize * 16),
+                r -> {
+                    Thread thread = new Thread(r, "dashboard-section-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    /**
+     * One dashboard computation: sections submitted to it share a single deadline.
+     */
+    public class Batch {
+
+        private final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        private final List<String> staleSections = new ArrayList<>();
+
+        public <T> Section<T> submit(String name, Supplier<T> supplier, T fallback) {
+            Supplier<T> inTransaction = () -> readOnlyTx.execute(status -> supplier.get());
+            if (!parallel) {
+                return new Section<>(name, runInline(inTransaction), fallback);
+            }
+            try {
+                // A plain Future, so cancelling it on timeout interrupts the worker
+                return new Section<>(name, executor.submit(inTransaction::get), fallback);
+            } catch (RejectedExecutionException e) {
+                // Pool saturated: serve this section stale rather than run it on the request thread
+                return new Section<>(name, CompletableFuture.failedFuture(
+                        new RejectedExecutionException("section queue is full")), fallback);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T await(Section<T> section) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                T value = section.future.get(remaining, TimeUnit.NANOSECONDS);
+                lastGood.put(section.name, value);
+                return value;
+            } catch (TimeoutException e) {
+                section.future.cancel(true);
+                log.warn("Dashboard section {} missed the {} ms dashboard deadline", section.name, timeoutMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("Dashboard section {} failed: {}", section.name, cause.getMessage());
+            }
+            staleSections.add(section.name);
+            return (T) lastGood.getOrDefault(section.name, section.fallback);
+        }
+
+        public List<String> getStaleSections() {
+            return staleSections;
+        }
+
+        private <T> CompletableFuture<T> runInline(Supplier<T> supplier) {
+            try {
+                return CompletableFuture.completedFuture(supplier.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+
+    public static final class Section<T> {
+        private final String name;
+        private final Future<T> future;
+        private final T fallback;
+
+        private Section(String name, Future<T> future, T fallback) {
+            this.name = name;
+            this.future = future;
+            this.fallback = fallback;
+        }
+    }
+}
@@ -1,29 +1,36 @@
 package com.hms.hospital_management_system.service;
 
 import java.time.LocalDate;
-import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.hms.hospital_management_system.dto.DashboardStats;
 import com.hms.hospital_management_system.dto.DashboardStats.*;
 import com.hms.hospital_management_system.entity.Appointment;
 import com.hms.hospital_management_system.entity.Bill;
+import com.hms.hospital_management_system.entity.DashboardCounter;
 import com.hms.hospital_management_system.entity.Doctor;
-import com.hms.hospital_management_system.entity.Patient;
 import com.hms.hospital_management_system.entity.Room;
+import com.hms.hospital_management_system.entity.User;
 import com.hms.hospital_management_system.repository.AppointmentRepository;
+import com.hms.hospital_management_system.repository.AppointmentRepository.DoctorCount;
 import com.hms.hospital_management_system.repository.BillRepository;
+import com.hms.hospital_management_system.repository.BillRepository.DailyRevenue;
 import com.hms.hospital_management_system.repository.DepartmentRepository;
 import com.hms.hospital_management_system.repository.DoctorRepository;
+import com.hms.hospital_management_system.repository.DoctorRepository.DepartmentCount;
 import com.hms.hospital_management_system.repository.MedicineRepository;
 import com.hms.hospital_management_system.repository.PatientRepository;
 import com.hms.hospital_management_system.repository.RoomRepository;
+import com.hms.hospital_management_system.service.DashboardSectionRunner.Section;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,59 +46,91 @@ public class DashboardService {
     private final RoomRepository roomRepository;
     private final MedicineRepository medicineRepository;
     private final DepartmentRepository departmentRepository;
+    private final DashboardCounterService dashboardCounterService;
+    private final DashboardSectionRunner sectionRunner;
+    private final DashboardSnapshotCache snapshotCache;
+    private final RevenueRollupService revenueRollupService;
+    private final PatientDemographicsService patientDemographicsService;
 
+    /**
+     * Admin dashboard. Independent sections are fanned out through
+     * {@link DashboardSectionRunner}, each in its own read-only transaction;
+     * sections that time out are served from their last good value and listed
+     * in {@code staleSections}.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public DashboardStats getDashboardStats() {
         LocalDate today = LocalDate.now();
+        DashboardSectionRunner.Batch batch = sectionRunner.newBatch();
+
+        Section<DashboardStats> summarySection = batch.submit("summary", () -> getSummary(today), emptySummary());
+        // Patient overview (last 8 days)
+        Section<List<PatientOverviewData>> patientOverviewSection = batch.submit("patientOverview",
+                () -> getPatientOverview(today), new ArrayList<>());
+        // Revenue data (last 7 days)
+        Section<List<RevenueData>> revenueSection = batch.submit("revenueData",
+                () -> getRevenueData(today), new ArrayList<>());
+        // Department distribution
+        Section<List<DepartmentData>> departmentSection = batch.submit("departmentDistribution",
+                () -> getDepartmentDistribution(doctorRepository.count()), new ArrayList<>());
+        // Recent appointments
+        Section<List<RecentAppointment>> recentSection = batch.submit("recentAppointments",
+                this::getRecentAppointments, new ArrayList<>());
+        // Doctor schedules for today
+        Section<List<DoctorScheduleInfo>> scheduleSection = batch.submit("doctorSchedules",
+                () -> getDoctorSchedules(today), new ArrayList<>());
+
+        DashboardStats stats = batch.await(summarySection).toBuilder()
+                .patientOverview(batch.await(patientOverviewSection))
+                .revenueData(batch.await(revenueSection))
+                .departmentDistribution(batch.await(departmentSection))
+                .recentAppointments(batch.await(recentSection))
+                .doctorSchedules(batch.await(scheduleSection))
+                .build();
+        stats.setStaleSections(batch.getStaleSections());
+        return stats;
+    }
+
+    /**
+     * Summary tiles, trends and the status histogram.
+     */
+    private DashboardStats getSummary(LocalDate today) {
         LocalDate weekAgo = today.minusDays(7);
         LocalDate twoWeeksAgo = today.minusDays(14);
 
+        // Summary tiles come from the incrementally maintained counters;
+        // fall back to aggregate queries until the counters have been seeded
+        Map<String, DashboardCounter> counters = dashboardCounterService.getCounters();
+
         // Basic counts
-        long totalPatients = patientRepository.count();
+        long totalPatients = counterValue(counters, DashboardCounterService.TOTAL_PATIENTS, patientRepository::count);
         long totalDoctors = doctorRepository.count();
-        long totalAppointments = appointmentRepository.count();
-        long todayAppointments = appointmentRepository.findByAppointmentDate(today).size();
-        long pendingBills = billRepository.findByPaymentStatus(Bill.PaymentStatus.PENDING).size();
-        long availableRooms = roomRepository.findByStatus(Room.RoomStatus.AVAILABLE).size();
+        long totalAppointments = counterValue(counters, DashboardCounterService.TOTAL_APPOINTMENTS,
+                appointmentRepository::count);
+        long todayAppointments = appointmentRepository.countByAppointmentDate(today);
+        long pendingBills = counterValue(counters, DashboardCounterService.PENDING_BILLS,
+                () -> billRepository.countByPaymentStatus(Bill.PaymentStatus.PENDING));
+        long availableRooms = counterValue(counters, DashboardCounterService.AVAILABLE_ROOMS,
+                () -> roomRepository.countByStatus(Room.RoomStatus.AVAILABLE));
         
         // Low stock medicines (stock <= reorder level)
-        long lowStockMedicines = medicineRepository.findAll().stream()
-                .filter(m -> m.getStockQuantity() <= (m.getReorderLevel() != null ? m.getReorderLevel() : 10))
-                .count();
+        long lowStockMedicines = counterValue(counters, DashboardCounterService.LOW_STOCK_MEDICINES,
+                medicineRepository::countLowStockMedicines);
 
         // Revenue calculation
-        Double totalRevenue = billRepository.findByPaymentStatus(Bill.PaymentStatus.PAID).stream()
-                .mapToDouble(b -> b.getNetAmount() != null ? b.getNetAmount() : 0.0)
-                .sum();
+        DashboardCounter paidBills = counters.get(DashboardCounterService.PAID_BILLS);
+        Double totalRevenue = paidBills != null ? paidBills.getAmount() : billRepository.getTotalPaidRevenue();
 
         // Calculate trends (compare this week vs last week)
-        long thisWeekPatients = patientRepository.findAll().stream()
-                .filter(p -> p.getCreatedAt() != null && p.getCreatedAt().toLocalDate().isAfter(weekAgo))
-                .count();
-        long lastWeekPatients = patientRepository.findAll().stream()
-                .filter(p -> p.getCreatedAt() != null && 
-                        p.getCreatedAt().toLocalDate().isAfter(twoWeeksAgo) && 
-                        p.getCreatedAt().toLocalDate().isBefore(weekAgo.plusDays(1)))
-                .count();
+        long thisWeekPatients = patientRepository.countCreatedBetween(
+                weekAgo.plusDays(1).atStartOfDay(), today.plusDays(1).atStartOfDay());
+        long lastWeekPatients = patientRepository.countCreatedBetween(
+                twoWeeksAgo.plusDays(1).atStartOfDay(), weekAgo.plusDays(1).atStartOfDay());
         double patientsTrend = lastWeekPatients > 0 ? 
                 ((double)(thisWeekPatients - lastWeekPatients) / lastWeekPatients) * 100 : 0;
 
-        // Patient overview (last 8 days)
-        List<PatientOverviewData> patientOverview = getPatientOverview(today);
-
-        // Revenue data (last 7 days)
-        List<RevenueData> revenueData = getRevenueData(today);
-
-        // Department distribution
-        List<DepartmentData> departmentDistribution = getDepartmentDistribution();
-
         // Appointments by status
-        List<AppointmentStatusData> appointmentsByStatus = getAppointmentsByStatus();
-
-        // Recent appointments
-        List<RecentAppointment> recentAppointments = getRecentAppointments();
-
-        // Doctor schedules for today
-        List<DoctorScheduleInfo> doctorSchedules = getDoctorSchedules(today);
+        List<AppointmentStatusData> appointmentsByStatus = getAppointmentsByStatus(counters);
 
         return DashboardStats.builder()
                 .totalPatients(totalPatients)
@@ -105,60 +144,64 @@ public class DashboardService {
                 .patientsTrend(patientsTrend)
                 .appointmentsTrend(0.0)
                 .revenueTrend(0.0)
-                .patientOverview(patientOverview)
-                .revenueData(revenueData)
-                .departmentDistribution(departmentDistribution)
                 .appointmentsByStatus(appointmentsByStatus)
-                .recentAppointments(recentAppointments)
-                .doctorSchedules(doctorSchedules)
                 .build();
     }
 
-    private List<PatientOverviewData> getPatientOverview(LocalDate today) {
-        List<PatientOverviewData> overview = new ArrayList<>();
+    /**
+     * Summary tiles only, used by the live dashboard stream to compute deltas.
+     */
+    public DashboardStats getLiveSummary() {
+        return getSummary(LocalDate.now());
+    }
 
-        for (int i = 7; i >= 0; i--) {
-            LocalDate date = today.minusDays(i);
-            String dateStr = date.getDayOfWeek().toString().substring(0, 3);
-            
-            // Count patients by age group who had appointments on this day
-            List<Appointment> dayAppointments = appointmentRepository.findByAppointmentDate(date);
-            
-            long child = 0, adult = 0, elderly = 0;
-            for (Appointment apt : dayAppointments) {
-                Patient patient = apt.getPatient();
-                if (patient != null && patient.getDateOfBirth() != null) {
-                    int age = Period.between(patient.getDateOfBirth(), today).getYears();
-                    if (age < 18) child++;
-                    else if (age < 60) adult++;
-                    else elderly++;
-                } else {
-                    adult++; // Default to adult if no DOB
-                }
-            }
-            
-            overview.add(PatientOverviewData.builder()
-                    .date(dateStr)
-                    .child(child)
-                    .adult(adult)
-                    .elderly(elderly)
-                    .build());
-        }
-        return overview;
+    /**
+     * A single appointment in the shape of a recent-appointments row.
+     */
+    public Optional<RecentAppointment> getRecentAppointment(Long appointmentId) {
+        return appointmentRepository.findWithPatientAndDoctorById(appointmentId)
+                .map(this::toRecentAppointment);
+    }
+
+    private DashboardStats emptySummary() {
+        return DashboardStats.builder()
+                .totalPatients(0L)
+                .totalDoctors(0L)
+                .totalAppointments(0L)
+                .todayAppointments(0L)
+                .pendingBills(0L)
+                .totalRevenue(0.0)
+                .availableRooms(0L)
+                .lowStockMedicines(0L)
+                .patientsTrend(0.0)
+                .appointmentsTrend(0.0)
+                .revenueTrend(0.0)
+                .appointmentsByStatus(new ArrayList<>())
+                .build();
+    }
+
+    private List<PatientOverviewData> getPatientOverview(LocalDate today) {
+        // Age groups of patients with appointments on each of the last 8 days, bucketed in one query
+        return patientDemographicsService.getAgeBands(today.minusDays(7), today, null).getDays().stream()
+                .map(day -> PatientOverviewData.builder()
+                        .date(day.getDate().getDayOfWeek().toString().substring(0, 3))
+                        .child(day.getChild())
+                        .adult(day.getAdult())
+                        .elderly(day.getElderly())
+                        .build())
+                .collect(Collectors.toList());
     }
 
     private List<RevenueData> getRevenueData(LocalDate today) {
+        Map<LocalDate, Double> incomeByDay = revenueRollupService.getPaidRevenueByDay(today.minusDays(6), today).stream()
+                .collect(Collectors.toMap(DailyRevenue::getDay, r -> r.getTotal() != null ? r.getTotal() : 0.0));
+
         List<RevenueData> revenueList = new ArrayList<>();
-        
         for (int i = 6; i >= 0; i--) {
             LocalDate date = today.minusDays(i);
             String dateStr = date.getDayOfWeek().toString().substring(0, 3);
             
-            double income = billRepository.findAll().stream()
-                    .filter(b -> b.getBillDate() != null && b.getBillDate().equals(date) 
-                            && b.getPaymentStatus() == Bill.PaymentStatus.PAID)
-                    .mapToDouble(b -> b.getNetAmount() != null ? b.getNetAmount() : 0.0)
-                    .sum();
+            double income = incomeByDay.getOrDefault(date, 0.0);
             
             // Expense can be calculated from medicine purchases, etc.
             // For now, estimate as percentage of income
@@ -173,25 +216,16 @@ public class DashboardService {
         return revenueList;
     }
 
-    private List<DepartmentData> getDepartmentDistribution() {
+    private List<DepartmentData> getDepartmentDistribution(long totalDoctors) {
         String[] colors = {"#6ee7b7", "#1f2937", "#e5e7eb", "#3b82f6", "#ef4444", "#f59e0b"};
-        List<Doctor> allDoctors = doctorRepository.findAll();
-        long totalDoctors = allDoctors.size();
-        
-        Map<String, Long> deptCounts = allDoctors.stream()
-                .filter(d -> d.getDepartment() != null)
-                .collect(Collectors.groupingBy(
-                        d -> d.getDepartment().getName(),
-                        Collectors.counting()
-                ));
         
         List<DepartmentData> result = new ArrayList<>();
         int colorIndex = 0;
-        for (Map.Entry<String, Long> entry : deptCounts.entrySet()) {
-            double percentage = totalDoctors > 0 ? (entry.getValue() * 100.0 / totalDoctors) : 0;
+        for (DepartmentCount dept : doctorRepository.countByDepartmentName()) {
+            double percentage = totalDoctors > 0 ? (dept.getCount() * 100.0 / totalDoctors) : 0;
             result.add(DepartmentData.builder()
-                    .name(entry.getKey())
-                    .count(entry.getValue())
+                    .name(dept.getName())
+                    .count(dept.getCount())
                     .percentage(Math.round(percentage * 10.0) / 10.0)
                     .color(colors[colorIndex % colors.length])
                     .build());
@@ -200,55 +234,45 @@ public class DashboardService {
         return result;
     }
 
-    private List<AppointmentStatusData> getAppointmentsByStatus() {
-        List<Appointment> allAppointments = appointmentRepository.findAll();
-        
-        return allAppointments.stream()
-                .collect(Collectors.groupingBy(
-                        a -> a.getStatus() != null ? a.getStatus().name() : "UNKNOWN",
-                        Collectors.counting()
-                ))
-                .entrySet().stream()
-                .map(e -> AppointmentStatusData.builder()
-                        .status(e.getKey())
-                        .count(e.getValue())
+    private long counterValue(Map<String, DashboardCounter> counters, String name, LongSupplier fallback) {
+        DashboardCounter counter = counters.get(name);
+        return counter != null ? counter.getValue() : fallback.getAsLong();
+    }
+
+    private List<AppointmentStatusData> getAppointmentsByStatus(Map<String, DashboardCounter> counters) {
+        if (counters.containsKey(DashboardCounterService.TOTAL_APPOINTMENTS)) {
+            return dashboardCounterService.getAppointmentStatusCounts(counters).entrySet().stream()
+                    .map(e -> AppointmentStatusData.builder()
+                            .status(e.getKey())
+                            .count(e.getValue())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+        return appointmentRepository.countGroupedByStatus().stream()
+                .map(s -> AppointmentStatusData.builder()
+                        .status(s.getStatus() != null ? s.getStatus().name() : "UNKNOWN")
+                        .count(s.getCount())
                         .build())
                 .collect(Collectors.toList());
     }
 
     private List<RecentAppointment> getRecentAppointments() {
-        return appointmentRepository.findAll().stream()
-                .sorted((a, b) -> {
-                    if (a.getCreatedAt() == null) return 1;
-                    if (b.getCreatedAt() == null) return -1;
-                    return b.getCreatedAt().compareTo(a.getCreatedAt());
-                })
-                .limit(5)
-                .map(a -> RecentAppointment.builder()
-                        .id(a.getId())
-                        .patientName(a.getPatient() != null ? 
-                                a.getPatient().getFirstName() + " " + a.getPatient().getLastName() : "N/A")
-                        .doctorName(a.getDoctor() != null ? 
-                                "Dr. " + a.getDoctor().getFirstName() + " " + a.getDoctor().getLastName() : "N/A")
-                        .date(a.getAppointmentDate() != null ? a.getAppointmentDate().toString() : "N/A")
-                        .time(a.getAppointmentTime() != null ? a.getAppointmentTime().toString() : "N/A")
-                        .status(a.getStatus() != null ? a.getStatus().name() : "N/A")
-                        .build())
+        return appointmentRepository.findTop5ByOrderByCreatedAtDesc().stream()
+                .map(this::toRecentAppointment)
                 .collect(Collectors.toList());
     }
 
     private List<DoctorScheduleInfo> getDoctorSchedules(LocalDate today) {
-        List<Appointment> todayAppointments = appointmentRepository.findByAppointmentDate(today);
+        List<Doctor> doctors = doctorRepository.findTop5ByOrderByIdAsc();
+        if (doctors.isEmpty()) {
+            return new ArrayList<>();
+        }
         
-        Map<Long, Long> appointmentsByDoctor = todayAppointments.stream()
-                .filter(a -> a.getDoctor() != null)
-                .collect(Collectors.groupingBy(
-                        a -> a.getDoctor().getId(),
-                        Collectors.counting()
-                ));
+        Map<Long, Long> appointmentsByDoctor = appointmentRepository
+                .countByDoctorsOnDate(doctors.stream().map(Doctor::getId).toList(), today).stream()
+                .collect(Collectors.toMap(DoctorCount::getDoctorId, DoctorCount::getCount));
         
-        return doctorRepository.findAll().stream()
-                .limit(5)
+        return doctors.stream()
                 .map(d -> {
                     long apptCount = appointmentsByDoctor.getOrDefault(d.getId(), 0L);
                     String status = apptCount > 0 ? "Available" : "Unavailable";
@@ -264,10 +288,27 @@ public class DashboardService {
                 .collect(Collectors.toList());
     }
 
+    private RecentAppointment toRecentAppointment(Appointment a) {
+        return RecentAppointment.builder()
+                .id(a.getId())
+                .patientName(a.getPatient() != null ? 
+                        a.getPatient().getFirstName() + " " + a.getPatient().getLastName() : "N/A")
+                .doctorName(a.getDoctor() != null ? 
+                        "Dr. " + a.getDoctor().getFirstName() + " " + a.getDoctor().getLastName() : "N/A")
+                .date(a.getAppointmentDate() != null ? a.getAppointmentDate().toString() : "N/A")
+                .time(a.getAppointmentTime() != null ? a.getAppointmentTime().toString() : "N/A")
+                .status(a.getStatus() != null ? a.getStatus().name() : "N/A")
+                .build();
+    }
+
     /**
      * Get dashboard stats filtered for a specific doctor
      */
     public DashboardStats getDashboardStatsForDoctor(Long doctorId) {
+        return snapshotCache.get(User.Role.DOCTOR, doctorId, () -> buildDashboardStatsForDoctor(doctorId));
+    }
+
+    private DashboardStats buildDashboardStatsForDoctor(Long doctorId) {
         LocalDate today = LocalDate.now();
 
         // Get doctor's appointments
@@ -354,6 +395,10 @@ public class DashboardService {
      * Get dashboard stats filtered for a specific patient
      */
     public DashboardStats getDashboardStatsForPatient(Long patientId) {
+        return snapshotCache.get(User.Role.PATIENT, patientId, () -> buildDashboardStatsForPatient(patientId));
+    }
+
+    private DashboardStats buildDashboardStatsForPatient(Long patientId) {
         LocalDate today = LocalDate.now();
 
         // Get patient's appointments
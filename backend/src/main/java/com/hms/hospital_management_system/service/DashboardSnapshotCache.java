@@ -0,0 +1,145 @@
+package com.hms.hospital_management_system.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hms.hospital_management_system.dto.DashboardStats;
+import com.hms.hospital_management_system.entity.User;
+import com.hms.hospital_management_system.event.AppointmentChangedEvent;
+import com.hms.hospital_management_system.event.AppointmentsBookedEvent;
+import com.hms.hospital_management_system.event.BillChangedEvent;
+import com.hms.hospital_management_system.event.MedicalRecordChangedEvent;
+
+/**
+ * Bounded, TTL-based cache of per-doctor and per-patient dashboard snapshots.
+ * 
+ * Entries are dropped after commit of any appointment, bill or medical-record
+ * change that concerns them. A snapshot computed while an invalidation happened
+ * is not stored, so a reader racing a writer can never cache pre-commit data.
+ */
+@Component
+public class DashboardSnapshotCache {
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    // Per key, bumped on each invalidation; a fill is discarded if its key's changed while computing.
+    // Guarded by the entries lock.
+    private final Map<String, Long> generations = new HashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private record Entry(DashboardStats stats, long expiresAt) {}
+
+    public DashboardSnapshotCache(@Value("${dashboard.cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${dashboard.cache.max-entries:2000}") int maxEntries) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        // Access-ordered so the least recently viewed dashboard is evicted first
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public DashboardStats get(User.Role role, Long entityId, Supplier<DashboardStats> loader) {
+        String key = key(role, entityId);
+        long now = System.nanoTime();
+        long startGeneration;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                hits.incrementAndGet();
+                return entry.stats();
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+            startGeneration = generations.getOrDefault(key, 0L);
+        }
+
+        misses.incrementAndGet();
+        DashboardStats stats = loader.get();
+        synchronized (entries) {
+            if (generations.getOrDefault(key, 0L) == startGeneration) {
+                entries.put(key, new Entry(stats, System.nanoTime() + ttlNanos));
+            }
+        }
+        return stats;
+    }
+
+    public void invalidate(User.Role role, Long entityId) {
+        if (entityId == null) {
+            return;
+        }
+        String key = key(role, entityId);
+        synchronized (entries) {
+            generations.merge(key, 1L, Long::sum);
+            if (entries.remove(key) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        invalidate(User.Role.DOCTOR, event.doctorId());
+        invalidate(User.Role.PATIENT, event.patientId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentsBooked(AppointmentsBookedEvent event) {
+        event.doctorIds().forEach(doctorId -> invalidate(User.Role.DOCTOR, doctorId));
+        event.patientIds().forEach(patientId -> invalidate(User.Role.PATIENT, patientId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBillChanged(BillChangedEvent event) {
+        invalidate(User.Role.PATIENT, event.patientId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMedicalRecordChanged(MedicalRecordChangedEvent event) {
+        invalidate(User.Role.DOCTOR, event.doctorId());
+        invalidate(User.Role.PATIENT, event.patientId());
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long requests = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (entries) {
+            stats.put("size", entries.size());
+        }
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", requests > 0 ? Math.round(hitCount * 1000.0 / requests) / 10.0 : 0.0);
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private String key(User.Role role, Long entityId) {
+        return role.name() + ":" + entityId;
+    }
+}
@@ -0,0 +1,252 @@
+package com.hms.hospital_management_system.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hms.hospital_management_system.dto.DashboardDelta;
+import com.hms.hospital_management_system.dto.DashboardDelta.DeltaType;
+import com.hms.hospital_management_system.dto.DashboardStats;
+import com.hms.hospital_management_system.event.AppointmentChangedEvent;
+import com.hms.hospital_management_system.event.AppointmentChangedEvent.ChangeType;
+import com.hms.hospital_management_system.event.AppointmentsBookedEvent;
+import com.hms.hospital_management_system.event.BillChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes live admin dashboard updates over server-sent events.
+ *
+ * A subscriber first receives a full {@link DashboardStats} snapshot, then
+ * {@link DashboardDelta} events as appointments and bills change. Deltas are
+ * computed once per burst of committed changes on a single background thread
+ * and the same payload is sent to every connected client, so the number of
+ * open dashboards does not multiply the database work.
+ */
+@Service
+@Slf4j
+public class DashboardStreamService {
+
+    private final DashboardService dashboardService;
+    private final long emitterTimeoutMs;
+    private final long snapshotMaxAgeMs;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ExecutorService publisher;
+
+    // Changes committed since the last flush; one flush handles all of them
+    private final Queue<AppointmentChangedEvent> pendingAppointments = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+
+    // Summary fields as last sent, so only changed values go out (publisher thread only)
+    private Map<String, Object> lastSummary;
+
+    // Snapshot shared by clients that connect close together
+    private DashboardStats sharedSnapshot;
+    private long sharedSnapshotAt;
+
+    public DashboardStreamService(DashboardService dashboardService,
+            @Value("${dashboard.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${dashboard.stream.snapshot-max-age-ms:5000}") long snapshotMaxAgeMs) {
+        this.dashboardService = dashboardService;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.snapshotMaxAgeMs = snapshotMaxAgeMs;
+        this.publisher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "dashboard-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        // Register before taking the snapshot so no delta committed in between is missed;
+        // deltas carry absolute values, so one that predates the snapshot is harmless
+        emitters.add(emitter);
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(getSharedSnapshot()));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    private synchronized DashboardStats getSharedSnapshot() {
+        long now = System.currentTimeMillis();
+        if (sharedSnapshot == null || now - sharedSnapshotAt > snapshotMaxAgeMs) {
+            sharedSnapshot = dashboardService.getDashboardStats();
+            sharedSnapshotAt = now;
+        }
+        return sharedSnapshot;
+    }
+
+    private synchronized void discardSharedSnapshot() {
+        sharedSnapshot = null;
+    }
+
+    // ========== Change Events ==========
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        pendingAppointments.add(event);
+        scheduleFlush();
+    }
+
+    // Batch bookings move the counters; their rows reach clients with the next snapshot
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentsBooked(AppointmentsBookedEvent event) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        scheduleFlush();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBillChanged(BillChangedEvent event) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushQueued.compareAndSet(false, true)) {
+            publisher.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        // Cleared first so changes committed during this flush queue another one
+        flushQueued.set(false);
+        // Later subscribers must not get a snapshot older than deltas they never saw
+        discardSharedSnapshot();
+        try {
+            Map<Long, AppointmentChangedEvent> appointments = new LinkedHashMap<>();
+            AppointmentChangedEvent event;
+            while ((event = pendingAppointments.poll()) != null) {
+                // A row created and then edited within one flush is still new to clients
+                appointments.merge(event.appointmentId(), event, (earlier, later) ->
+                        earlier.changeType() == ChangeType.CREATED && later.changeType() != ChangeType.DELETED
+                                ? earlier : later);
+            }
+
+            Map<String, Object> summary = summaryFields(dashboardService.getLiveSummary());
+            Map<String, Object> changes = new LinkedHashMap<>();
+            summary.forEach((field, value) -> {
+                if (lastSummary == null || !Objects.equals(lastSummary.get(field), value)) {
+                    changes.put(field, value);
+                }
+            });
+            lastSummary = summary;
+            if (!changes.isEmpty()) {
+                broadcast(DashboardDelta.builder()
+                        .type(DeltaType.COUNTERS)
+                        .at(LocalDateTime.now())
+                        .changes(changes)
+                        .build());
+            }
+
+            for (AppointmentChangedEvent change : appointments.values()) {
+                broadcast(toAppointmentDelta(change));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish dashboard delta: {}", e.getMessage());
+        }
+    }
+
+    private DashboardDelta toAppointmentDelta(AppointmentChangedEvent event) {
+        if (event.changeType() != ChangeType.DELETED) {
+            DashboardStats.RecentAppointment row = dashboardService.getRecentAppointment(event.appointmentId())
+                    .orElse(null);
+            if (row != null) {
+                return DashboardDelta.builder()
+                        .type(DeltaType.APPOINTMENT_UPSERT)
+                        .at(LocalDateTime.now())
+                        .appointment(row)
+                        .changeType(event.changeType())
+                        .build();
+            }
+        }
+        // Deleted, or gone again before the flush ran
+        return DashboardDelta.builder()
+                .type(DeltaType.APPOINTMENT_REMOVED)
+                .at(LocalDateTime.now())
+                .appointmentId(event.appointmentId())
+                .build();
+    }
+
+    private Map<String, Object> summaryFields(DashboardStats stats) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("totalPatients", stats.getTotalPatients());
+        fields.put("totalDoctors", stats.getTotalDoctors());
+        fields.put("totalAppointments", stats.getTotalAppointments());
+        fields.put("todayAppointments", stats.getTodayAppointments());
+        fields.put("pendingBills", stats.getPendingBills());
+        fields.put("totalRevenue", stats.getTotalRevenue());
+        fields.put("availableRooms", stats.getAvailableRooms());
+        fields.put("lowStockMedicines", stats.getLowStockMedicines());
+        fields.put("patientsTrend", stats.getPatientsTrend());
+        fields.put("appointmentsByStatus", stats.getAppointmentsByStatus());
+        return fields;
+    }
+
+    private void broadcast(DashboardDelta delta) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("delta").data(delta));
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container completes the emitter
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    // ========== Keep-alive ==========
+
+    /**
+     * Periodic comment line so idle connections are not dropped by proxies and
+     * dead clients are noticed and released.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+}
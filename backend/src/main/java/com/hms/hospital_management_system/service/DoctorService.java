@@ -2,9 +2,14 @@ package com.hms.hospital_management_system.service;
 
 import com.hms.hospital_management_system.entity.Doctor;
 import com.hms.hospital_management_system.entity.Department;
+import com.hms.hospital_management_system.event.AppointmentChangedEvent;
+import com.hms.hospital_management_system.event.AppointmentChangedEvent.ChangeType;
+import com.hms.hospital_management_system.event.DoctorScheduleChangedEvent;
+import com.hms.hospital_management_system.repository.AppointmentRepository;
 import com.hms.hospital_management_system.repository.DoctorRepository;
 import com.hms.hospital_management_system.repository.DepartmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +24,9 @@ public class DoctorService {
 
     private final DoctorRepository doctorRepository;
     private final DepartmentRepository departmentRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final DashboardCounterService dashboardCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Doctor> getAllDoctors() {
         return doctorRepository.findAll();
@@ -39,6 +47,7 @@ public class DoctorService {
         if (doctor.getLicenseNumber() != null && doctorRepository.existsByLicenseNumber(doctor.getLicenseNumber())) {
             throw new RuntimeException("Doctor with license number " + doctor.getLicenseNumber() + " already exists");
         }
+        SlotAvailabilityEngine.validateSchedule(doctor);
         return doctorRepository.save(doctor);
     }
 
@@ -64,6 +73,20 @@ public class DoctorService {
         doctor.setConsultationFee(doctorDetails.getConsultationFee());
         doctor.setYearsOfExperience(doctorDetails.getYearsOfExperience());
 
+        SlotAvailabilityEngine.validateSchedule(doctor);
+        return doctorRepository.save(doctor);
+    }
+
+    public Doctor updateWorkingHours(Long id, Doctor hours) {
+        Doctor doctor = doctorRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Doctor not found with id: " + id));
+
+        SlotAvailabilityEngine.validateSchedule(hours);
+
+        doctor.setWorkStartTime(hours.getWorkStartTime());
+        doctor.setWorkEndTime(hours.getWorkEndTime());
+        doctor.setSlotMinutes(hours.getSlotMinutes());
+        eventPublisher.publishEvent(new DoctorScheduleChangedEvent(id));
         return doctorRepository.save(doctor);
     }
 
@@ -81,6 +104,11 @@ public class DoctorService {
         if (!doctorRepository.existsById(id)) {
             throw new RuntimeException("Doctor not found with id: " + id);
         }
+        // The delete cascades to the doctor's appointments; account for them as deleteAppointment would
+        appointmentRepository.countGroupedByStatusForDoctor(id).forEach(count ->
+                dashboardCounterService.appointmentsDeleted(count.getStatus(), count.getCount()));
+        appointmentRepository.findRefsByDoctorId(id).forEach(ref -> eventPublisher.publishEvent(
+                new AppointmentChangedEvent(ChangeType.DELETED, ref.getId(), id, ref.getPatientId())));
         doctorRepository.deleteById(id);
     }
 
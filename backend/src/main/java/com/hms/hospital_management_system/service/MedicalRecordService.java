@@ -1,12 +1,18 @@
 package com.hms.hospital_management_system.service;
 
+import com.hms.hospital_management_system.dto.CursorPage;
 import com.hms.hospital_management_system.entity.MedicalRecord;
 import com.hms.hospital_management_system.entity.Patient;
 import com.hms.hospital_management_system.entity.Doctor;
+import com.hms.hospital_management_system.event.MedicalRecordChangedEvent;
 import com.hms.hospital_management_system.repository.MedicalRecordRepository;
 import com.hms.hospital_management_system.repository.PatientRepository;
 import com.hms.hospital_management_system.repository.DoctorRepository;
+import com.hms.hospital_management_system.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,11 +28,27 @@ public class MedicalRecordService {
     private final MedicalRecordRepository medicalRecordRepository;
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<MedicalRecord> getAllMedicalRecords() {
         return medicalRecordRepository.findAll();
     }
 
+    /**
+     * One slice of medical records, newest first, optionally limited to a
+     * doctor or patient; pass the previous slice's cursor to continue.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MedicalRecord> getMedicalRecordsPage(Long doctorId, Long patientId, String cursor, int size) {
+        int limit = CursorPage.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        List<MedicalRecord> rows = after == null
+                ? medicalRecordRepository.findNewestFirst(doctorId, patientId, fetch)
+                : medicalRecordRepository.findNewestFirstAfter(doctorId, patientId, after.date(), after.id(), fetch);
+        return CursorPage.of(rows, limit, m -> new KeysetCursor(m.getRecordDate(), m.getId()));
+    }
+
     public Optional<MedicalRecord> getMedicalRecordById(Long id) {
         return medicalRecordRepository.findById(id);
     }
@@ -40,7 +62,9 @@ public class MedicalRecordService {
         medicalRecord.setPatient(patient);
         medicalRecord.setDoctor(doctor);
         
-        return medicalRecordRepository.save(medicalRecord);
+        MedicalRecord saved = medicalRecordRepository.save(medicalRecord);
+        eventPublisher.publishEvent(MedicalRecordChangedEvent.of(saved));
+        return saved;
     }
 
     public MedicalRecord updateMedicalRecord(Long id, MedicalRecord recordDetails) {
@@ -55,14 +79,15 @@ public class MedicalRecordService {
         record.setFollowUpDate(recordDetails.getFollowUpDate());
         record.setNotes(recordDetails.getNotes());
 
+        eventPublisher.publishEvent(MedicalRecordChangedEvent.of(record));
         return medicalRecordRepository.save(record);
     }
 
     public void deleteMedicalRecord(Long id) {
-        if (!medicalRecordRepository.existsById(id)) {
-            throw new RuntimeException("Medical record not found with id: " + id);
-        }
-        medicalRecordRepository.deleteById(id);
+        MedicalRecord record = medicalRecordRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Medical record not found with id: " + id));
+        medicalRecordRepository.delete(record);
+        eventPublisher.publishEvent(MedicalRecordChangedEvent.of(record));
     }
 
     public List<MedicalRecord> getMedicalRecordsByPatient(Long patientId) {
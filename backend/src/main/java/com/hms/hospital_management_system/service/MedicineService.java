@@ -17,6 +17,7 @@ import java.util.Optional;
 public class MedicineService {
 
     private final MedicineRepository medicineRepository;
+    private final DashboardCounterService dashboardCounterService;
 
     public List<Medicine> getAllMedicines() {
         return medicineRepository.findAll();
@@ -34,13 +35,16 @@ public class MedicineService {
         if (medicineRepository.existsByName(medicine.getName())) {
             throw new RuntimeException("Medicine with name " + medicine.getName() + " already exists");
         }
-        return medicineRepository.save(medicine);
+        Medicine saved = medicineRepository.save(medicine);
+        dashboardCounterService.lowStockChanged(false, DashboardCounterService.isLowStock(saved));
+        return saved;
     }
 
     public Medicine updateMedicine(Long id, Medicine medicineDetails) {
         Medicine medicine = medicineRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Medicine not found with id: " + id));
 
+        boolean wasLowStock = DashboardCounterService.isLowStock(medicine);
         medicine.setName(medicineDetails.getName());
         medicine.setGenericName(medicineDetails.getGenericName());
         medicine.setManufacturer(medicineDetails.getManufacturer());
@@ -52,6 +56,7 @@ public class MedicineService {
         medicine.setExpiryDate(medicineDetails.getExpiryDate());
         medicine.setReorderLevel(medicineDetails.getReorderLevel());
 
+        dashboardCounterService.lowStockChanged(wasLowStock, DashboardCounterService.isLowStock(medicine));
         return medicineRepository.save(medicine);
     }
 
@@ -59,15 +64,17 @@ public class MedicineService {
         Medicine medicine = medicineRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Medicine not found with id: " + id));
         
+        boolean wasLowStock = DashboardCounterService.isLowStock(medicine);
         medicine.setStockQuantity(medicine.getStockQuantity() + quantity);
+        dashboardCounterService.lowStockChanged(wasLowStock, DashboardCounterService.isLowStock(medicine));
         return medicineRepository.save(medicine);
     }
 
     public void deleteMedicine(Long id) {
-        if (!medicineRepository.existsById(id)) {
-            throw new RuntimeException("Medicine not found with id: " + id);
-        }
-        medicineRepository.deleteById(id);
+        Medicine medicine = medicineRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Medicine not found with id: " + id));
+        medicineRepository.delete(medicine);
+        dashboardCounterService.lowStockChanged(DashboardCounterService.isLowStock(medicine), false);
     }
 
     public List<Medicine> searchMedicinesByName(String name) {
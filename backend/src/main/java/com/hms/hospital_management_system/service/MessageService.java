@@ -3,21 +3,29 @@ package com.hms.hospital_management_system.service;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.hms.hospital_management_system.dto.CursorPage;
 import com.hms.hospital_management_system.dto.MessageDTO;
 import com.hms.hospital_management_system.dto.MessageDTO.ConversationDTO;
 import com.hms.hospital_management_system.dto.MessageDTO.SendMessageRequest;
 import com.hms.hospital_management_system.entity.Message;
 import com.hms.hospital_management_system.entity.User;
+import com.hms.hospital_management_system.event.UnreadCountChangedEvent;
 import com.hms.hospital_management_system.repository.MessageRepository;
 import com.hms.hospital_management_system.repository.UserRepository;
+import com.hms.hospital_management_system.util.TimestampCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +36,8 @@ public class MessageService {
 
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MessageDTO sendMessage(Long senderId, SendMessageRequest request) {
         User sender = userRepository.findById(senderId)
@@ -43,6 +53,7 @@ public class MessageService {
                 .build();
 
         Message saved = messageRepository.save(message);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.of(receiver.getId()));
         return toDTO(saved);
     }
 
@@ -53,50 +64,76 @@ public class MessageService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of the conversation in chronological order. With no cursor it
+     * is the newest page; {@code before} continues towards older messages and
+     * {@code after} towards newer ones, and the returned cursor continues in
+     * the same direction. Each direction of the conversation is read with its
+     * own index-ordered query, so a page costs the same however long the
+     * history is.
+     */
     @Transactional(readOnly = true)
-    public List<ConversationDTO> getConversations(Long userId) {
-        // Get all partner IDs from both queries and combine them
-        List<Long> receiverIds = messageRepository.findReceiverIdsForUser(userId);
-        List<Long> senderIds = messageRepository.findSenderIdsForUser(userId);
-        
-        // Combine and deduplicate partner IDs
-        java.util.Set<Long> partnerIdsSet = new java.util.HashSet<>();
-        partnerIdsSet.addAll(receiverIds);
-        partnerIdsSet.addAll(senderIds);
-        
-        // Fetch User entities by IDs
-        List<User> partners = userRepository.findAllById(partnerIdsSet);
-        List<ConversationDTO> conversations = new ArrayList<>();
-
-        for (User partner : partners) {
-            List<Message> conversationMessages = messageRepository.findConversation(userId, partner.getId());
-            if (conversationMessages.isEmpty()) continue;
-
-            Message lastMessage = conversationMessages.get(conversationMessages.size() - 1);
-            Long unreadCount = messageRepository.countBySenderIdAndReceiverIdAndIsReadFalse(partner.getId(), userId);
-
-            conversations.add(ConversationDTO.builder()
-                    .id(partner.getId())
-                    .partnerId(partner.getId())
-                    .partnerName(partner.getFirstName() + " " + partner.getLastName())
-                    .partnerRole(partner.getRole().name())
-                    .partnerAvatar(getInitials(partner))
-                    .lastMessage(lastMessage.getContent())
-                    .lastMessageTime(lastMessage.getSentAt())
-                    .timeAgo(getTimeAgo(lastMessage.getSentAt()))
-                    .unreadCount(unreadCount)
-                    .online(true) // Can implement real online status later
-                    .build());
+    public CursorPage<MessageDTO> getConversationPage(Long userId, Long partnerId, String before, String after,
+                                                      int size) {
+        if (before != null && !before.isBlank() && after != null && !after.isBlank()) {
+            throw new RuntimeException("Pass either before or after, not both");
+        }
+        int limit = CursorPage.clampSize(size);
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        TimestampCursor olderThan = TimestampCursor.decode(before);
+        TimestampCursor newerThan = TimestampCursor.decode(after);
+
+        List<Message> rows = new ArrayList<>(fetchDirection(userId, partnerId, olderThan, newerThan, fetch));
+        if (!userId.equals(partnerId)) {
+            rows.addAll(fetchDirection(partnerId, userId, olderThan, newerThan, fetch));
+        }
+        Comparator<Message> chronological = Comparator.comparing(Message::getSentAt).thenComparing(Message::getId);
+        rows.sort(newerThan != null ? chronological : chronological.reversed());
+
+        CursorPage<Message> page = CursorPage.of(rows, limit, m -> new TimestampCursor(m.getSentAt(), m.getId()));
+        List<MessageDTO> items = page.getItems().stream().map(this::toDTO).collect(Collectors.toList());
+        if (newerThan == null) {
+            Collections.reverse(items);
+        }
+        return new CursorPage<>(items, page.getNextCursor(), page.isHasMore());
+    }
+
+    private List<Message> fetchDirection(Long senderId, Long receiverId, TimestampCursor olderThan,
+                                         TimestampCursor newerThan, Pageable fetch) {
+        if (newerThan != null) {
+            return messageRepository.findFromToAfter(senderId, receiverId, newerThan.time(), newerThan.id(), fetch);
+        }
+        if (olderThan != null) {
+            return messageRepository.findFromToBefore(senderId, receiverId, olderThan.time(), olderThan.id(), fetch);
         }
+        return messageRepository.findNewestFromTo(senderId, receiverId, fetch);
+    }
 
-        // Sort by last message time descending
-        conversations.sort((a, b) -> b.getLastMessageTime().compareTo(a.getLastMessageTime()));
-        return conversations;
+    /**
+     * The user's inbox: one entry per conversation partner, newest first,
+     * loaded with a single query whatever the size of the history.
+     */
+    @Transactional(readOnly = true)
+    public List<ConversationDTO> getConversations(Long userId) {
+        return messageRepository.findConversationSummaries(userId).stream()
+                .map(summary -> ConversationDTO.builder()
+                        .id(summary.getPartnerId())
+                        .partnerId(summary.getPartnerId())
+                        .partnerName(summary.getFirstName() + " " + summary.getLastName())
+                        .partnerRole(summary.getRole())
+                        .partnerAvatar(getInitials(summary.getFirstName(), summary.getLastName()))
+                        .lastMessage(summary.getLastMessage())
+                        .lastMessageTime(summary.getLastMessageTime())
+                        .timeAgo(getTimeAgo(summary.getLastMessageTime()))
+                        .unreadCount(summary.getUnreadCount())
+                        .online(true) // Can implement real online status later
+                        .build())
+                .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public Long getUnreadCount(Long userId) {
-        return messageRepository.countByReceiverIdAndIsReadFalse(userId);
+        return unreadCounterService.getCounts(userId).messages();
     }
 
     public void markAsRead(Long messageId, Long userId) {
@@ -106,17 +143,20 @@ public class MessageService {
         if (message.getReceiver().getId().equals(userId)) {
             message.setIsRead(true);
             messageRepository.save(message);
+            eventPublisher.publishEvent(UnreadCountChangedEvent.of(userId));
         }
     }
 
-    public void markConversationAsRead(Long userId, Long partnerId) {
-        List<Message> messages = messageRepository.findConversation(userId, partnerId);
-        for (Message message : messages) {
-            if (message.getReceiver().getId().equals(userId) && !message.getIsRead()) {
-                message.setIsRead(true);
-                messageRepository.save(message);
-            }
+    /**
+     * Marks every unread message the partner sent to the user as read in one
+     * statement and returns how many were updated.
+     */
+    public int markConversationAsRead(Long userId, Long partnerId) {
+        int updated = messageRepository.markReadFromSender(userId, partnerId);
+        if (updated > 0) {
+            eventPublisher.publishEvent(UnreadCountChangedEvent.of(userId));
         }
+        return updated;
     }
 
     @Transactional(readOnly = true)
@@ -145,10 +185,14 @@ public class MessageService {
     }
 
     private String getInitials(User user) {
-        String first = user.getFirstName() != null && !user.getFirstName().isEmpty() 
-                ? user.getFirstName().substring(0, 1).toUpperCase() : "";
-        String last = user.getLastName() != null && !user.getLastName().isEmpty() 
-                ? user.getLastName().substring(0, 1).toUpperCase() : "";
+        return getInitials(user.getFirstName(), user.getLastName());
+    }
+
+    private String getInitials(String firstName, String lastName) {
+        String first = firstName != null && !firstName.isEmpty() 
+                ? firstName.substring(0, 1).toUpperCase() : "";
+        String last = lastName != null && !lastName.isEmpty() 
+                ? lastName.substring(0, 1).toUpperCase() : "";
         return first + last;
     }
 
@@ -0,0 +1,195 @@
+package com.hms.hospital_management_system.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hms.hospital_management_system.event.NotificationScheduledEvent;
+import com.hms.hospital_management_system.event.UnreadCountChangedEvent;
+import com.hms.hospital_management_system.repository.NotificationRepository;
+import com.hms.hospital_management_system.util.HierarchicalTimingWheel;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends scheduled notifications when they fall due, from an in-memory timing
+ * wheel instead of polling the notification table.
+ *
+ * Unsent scheduled notifications are read once at startup (overdue ones are
+ * sent straight away); after that the wheel only learns about new ones from
+ * {@link NotificationScheduledEvent}. A ticker thread sleeps until the wheel's
+ * next expiry or cascade, advances it and queues the due notifications for a
+ * sender thread, which marks everything queued so far as sent with one update
+ * per batch, so batches grow instead of falling behind when many notifications
+ * fall due together.
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    // Upper bound on a sleep, so a wall-clock change is noticed within a second
+    private static final long MAX_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long RETRY_DELAY_MILLIS = 5_000;
+
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate tx;
+    private final long tickMillis;
+    private final int batchSize;
+
+    // Filled by any thread, drained into the wheel by the ticker
+    private final Queue<Pending> inbox = new ConcurrentLinkedQueue<>();
+    // Due notifications waiting for the sender; a drain is scheduled only when none is pending
+    private final Queue<Long> due = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "notification-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Thread ticker;
+    private volatile boolean running;
+
+    private record Pending(Long notificationId, long dueMillis) {
+    }
+
+    public NotificationDispatcher(NotificationRepository notificationRepository, JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+            @Value("${notifications.dispatcher.tick-ms:1}") long tickMillis,
+            @Value("${notifications.dispatcher.batch-size:1000}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tickMillis = tickMillis;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long started = System.currentTimeMillis();
+        // One streaming pass over the unsent rows; nothing is kept but (id, due time)
+        jdbcTemplate.query("SELECT id, scheduled_for FROM notification " +
+                "WHERE sent_at IS NULL AND scheduled_for IS NOT NULL",
+                rs -> {
+                    inbox.add(new Pending(rs.getLong(1), toMillis(rs.getTimestamp(2).toLocalDateTime())));
+                });
+        log.info("Loaded {} pending scheduled notifications in {} ms", inbox.size(),
+                System.currentTimeMillis() - started);
+
+        running = true;
+        ticker = new Thread(this::run, "notification-ticker");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (ticker != null) {
+            LockSupport.unpark(ticker);
+        }
+        sender.shutdown();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationScheduled(NotificationScheduledEvent event) {
+        schedule(event.notificationId(), event.scheduledFor());
+    }
+
+    public void schedule(Long notificationId, LocalDateTime scheduledFor) {
+        enqueue(new Pending(notificationId, toMillis(scheduledFor)));
+    }
+
+    private void enqueue(Pending pending) {
+        inbox.add(pending);
+        Thread thread = ticker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void run() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(tickMillis, System.currentTimeMillis());
+        while (running) {
+            Pending pending;
+            while ((pending = inbox.poll()) != null) {
+                if (!wheel.schedule(pending.notificationId(), pending.dueMillis())) {
+                    due.add(pending.notificationId());
+                }
+            }
+            long now = System.currentTimeMillis();
+            wheel.advance(now, due::add);
+            if (!due.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+            // Sleep until the wheel has work; enqueue wakes us early for an earlier deadline
+            long nextMillis = wheel.nextWorkMillis();
+            long parkNanos = nextMillis == Long.MAX_VALUE ? MAX_PARK_NANOS
+                    : Math.min(MAX_PARK_NANOS, TimeUnit.MILLISECONDS.toNanos(nextMillis - now));
+            LockSupport.parkNanos(parkNanos);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        List<Long> batch = new ArrayList<>(batchSize);
+        Long id;
+        while ((id = due.poll()) != null) {
+            batch.add(id);
+            if (batch.size() == batchSize) {
+                markSent(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            markSent(batch);
+        }
+    }
+
+    private void markSent(List<Long> notificationIds) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            tx.executeWithoutResult(status -> {
+                List<Long> recipients = notificationRepository.findUnsentRecipients(notificationIds);
+                notificationRepository.markSent(notificationIds, now);
+                // Sent notifications become visible and unread; pushed to open sidebars after commit
+                if (!recipients.isEmpty()) {
+                    eventPublisher.publishEvent(new UnreadCountChangedEvent(new HashSet<>(recipients)));
+                }
+            });
+            // Here you could also trigger email/SMS sending
+        } catch (RuntimeException e) {
+            log.warn("Marking {} notifications as sent failed, retrying in {} ms: {}",
+                    notificationIds.size(), RETRY_DELAY_MILLIS, e.getMessage());
+            long retryAt = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+            notificationIds.forEach(id -> enqueue(new Pending(id, retryAt)));
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
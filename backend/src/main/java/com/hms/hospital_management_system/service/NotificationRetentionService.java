@@ -0,0 +1,121 @@
+package com.hms.hospital_management_system.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hms.hospital_management_system.dto.NotificationArchiveReport;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the notification table small by moving read notifications older
+ * than the retention window to notification_archive. Rows move in id order
+ * in chunks, and each chunk is copied and deleted in its own transaction so
+ * the hot table is never locked for long. Unread notifications stay put
+ * whatever their age, so unread counts are unaffected.
+ */
+@Service
+@Slf4j
+public class NotificationRetentionService {
+
+    private static final String LAST_ID_SQL = "SELECT MAX(id) FROM notification " +
+            "WHERE is_read = TRUE AND created_at < ?";
+    private static final String SELECT_CHUNK_SQL = "SELECT id FROM notification " +
+            "WHERE id > ? AND id <= ? AND is_read = TRUE AND created_at < ? ORDER BY id LIMIT ?";
+    // A chunk is the next run of archivable ids, so it is copied and deleted as the id range it spans
+    private static final String COPY_SQL = "INSERT INTO notification_archive (id, user_id, title, message, " +
+            "notification_type, reference_type, reference_id, scheduled_for, sent_at, created_at, updated_at, " +
+            "archived_at) SELECT id, user_id, title, message, notification_type, reference_type, reference_id, " +
+            "scheduled_for, sent_at, created_at, updated_at, :archivedAt FROM notification " +
+            "WHERE id BETWEEN :firstId AND :lastId AND is_read = TRUE AND created_at < :cutoff";
+    // Only rows that made it into the archive, in case one was read between the two statements
+    private static final String DELETE_SQL = "DELETE FROM notification WHERE id BETWEEN :firstId AND :lastId " +
+            "AND EXISTS (SELECT 1 FROM notification_archive a WHERE a.id = notification.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate chunkTx;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public NotificationRetentionService(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${notifications.retention.days:180}") int retentionDays,
+            @Value("${notifications.retention.chunk-size:5000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.retentionDays = Math.max(1, retentionDays);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Scheduled(cron = "${notifications.retention.cron:0 15 4 * * *}")
+    public void scheduledArchive() {
+        archive();
+    }
+
+    public NotificationArchiveReport archive() {
+        return archiveReadBefore(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    /**
+     * Archives every read notification created before the cutoff and reports
+     * how many rows moved and how fast. Runs one at a time.
+     */
+    public synchronized NotificationArchiveReport archiveReadBefore(LocalDateTime cutoff) {
+        long started = System.currentTimeMillis();
+        Timestamp before = Timestamp.valueOf(cutoff);
+        long rowsMoved = 0;
+        int chunks = 0;
+        Long lastArchivableId = jdbcTemplate.queryForObject(LAST_ID_SQL, Long.class, before);
+        long afterId = 0;
+        while (lastArchivableId != null && afterId < lastArchivableId) {
+            long from = afterId;
+            List<Long> ids = chunkTx.execute(status -> {
+                List<Long> chunk = jdbcTemplate.queryForList(SELECT_CHUNK_SQL, Long.class,
+                        from, lastArchivableId, before, chunkSize);
+                if (chunk.isEmpty()) {
+                    return chunk;
+                }
+                MapSqlParameterSource params = new MapSqlParameterSource()
+                        .addValue("firstId", chunk.get(0))
+                        .addValue("lastId", chunk.get(chunk.size() - 1))
+                        .addValue("cutoff", before)
+                        .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+                namedJdbcTemplate.update(COPY_SQL, params);
+                namedJdbcTemplate.update(DELETE_SQL, params);
+                return chunk;
+            });
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            rowsMoved += ids.size();
+            chunks++;
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        long durationMs = System.currentTimeMillis() - started;
+        long rowsPerSecond = durationMs > 0 ? rowsMoved * 1000 / durationMs : rowsMoved;
+        log.info("Archived {} read notifications created before {} in {} chunks, {} ms ({} rows/s)",
+                rowsMoved, cutoff, chunks, durationMs, rowsPerSecond);
+
+        return NotificationArchiveReport.builder()
+                .archivedAt(LocalDateTime.now())
+                .cutoff(cutoff)
+                .rowsMoved(rowsMoved)
+                .chunks(chunks)
+                .durationMs(durationMs)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+}
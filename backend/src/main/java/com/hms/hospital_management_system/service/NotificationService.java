@@ -1,17 +1,28 @@
 package com.hms.hospital_management_system.service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.hms.hospital_management_system.dto.BroadcastRequest;
+import com.hms.hospital_management_system.dto.CursorPage;
 import com.hms.hospital_management_system.entity.Notification;
 import com.hms.hospital_management_system.entity.Notification.NotificationType;
 import com.hms.hospital_management_system.entity.User;
+import com.hms.hospital_management_system.event.NotificationScheduledEvent;
+import com.hms.hospital_management_system.event.UnreadCountChangedEvent;
 import com.hms.hospital_management_system.repository.NotificationRepository;
 import com.hms.hospital_management_system.repository.UserRepository;
+import com.hms.hospital_management_system.util.IdCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,6 +33,14 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnreadCounterService unreadCounterService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BROADCAST_BATCH_SIZE = 1000;
+    private static final String BROADCAST_INSERT_SQL = "INSERT INTO notification (user_id, title, message, " +
+            "notification_type, is_read, reference_type, reference_id, sent_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, FALSE, ?, ?, ?, ?, ?)";
 
     public List<Notification> getAllNotifications() {
         return notificationRepository.findAll();
@@ -31,16 +50,35 @@ public class NotificationService {
         return notificationRepository.findById(id);
     }
 
-    public List<Notification> getNotificationsByUser(Long userId) {
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    /**
+     * A user's newest notifications, at most {@link CursorPage#MAX_SIZE}.
+     * Older ones are reached through {@link #getNotificationsPage}.
+     */
+    public List<Notification> getNotificationsByUser(Long userId, int size) {
+        return notificationRepository.findNewestFirst(userId, PageRequest.of(0, CursorPage.clampSize(size)));
+    }
+
+    /**
+     * One slice of a user's notifications, newest first; pass the previous
+     * slice's cursor to continue.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Notification> getNotificationsPage(Long userId, String cursor, int size) {
+        int limit = CursorPage.clampSize(size);
+        IdCursor after = IdCursor.decode(cursor);
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        List<Notification> rows = after == null
+                ? notificationRepository.findNewestFirst(userId, fetch)
+                : notificationRepository.findNewestFirstAfter(userId, after.id(), fetch);
+        return CursorPage.of(rows, limit, n -> new IdCursor(n.getId()));
     }
 
     public List<Notification> getUnreadNotifications(Long userId) {
-        return notificationRepository.findByUserIdAndIsReadFalse(userId);
+        return notificationRepository.findUnreadSent(userId);
     }
 
     public Long countUnreadNotifications(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadCounterService.getCounts(userId).notifications();
     }
 
     public Notification createNotification(Long userId, String title, String message, 
@@ -59,7 +97,9 @@ public class NotificationService {
                 .sentAt(LocalDateTime.now())
                 .build();
         
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.of(userId));
+        return saved;
     }
 
     public Notification createScheduledNotification(Long userId, String title, String message, 
@@ -79,7 +119,10 @@ public class NotificationService {
                 .isRead(false)
                 .build();
         
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        // Not counted as unread until sent; the dispatcher publishes the count change then
+        eventPublisher.publishEvent(new NotificationScheduledEvent(saved.getId(), scheduledFor));
+        return saved;
     }
 
     public Notification markAsRead(Long id) {
@@ -87,19 +130,62 @@ public class NotificationService {
                 .orElseThrow(() -> new RuntimeException("Notification not found with id: " + id));
         
         notification.setIsRead(true);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.of(notification.getUser().getId()));
         return notificationRepository.save(notification);
     }
 
-    public void markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = notificationRepository.findByUserIdAndIsReadFalse(userId);
-        for (Notification notification : unreadNotifications) {
-            notification.setIsRead(true);
-            notificationRepository.save(notification);
+    /**
+     * Marks all of a user's unread notifications as read in one statement and
+     * returns how many were updated.
+     */
+    public int markAllAsRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId, LocalDateTime.now());
+        if (updated > 0) {
+            eventPublisher.publishEvent(UnreadCountChangedEvent.of(userId));
         }
+        return updated;
     }
 
     public void deleteNotification(Long id) {
-        notificationRepository.deleteById(id);
+        notificationRepository.findById(id).ifPresent(notification -> {
+            notificationRepository.delete(notification);
+            eventPublisher.publishEvent(UnreadCountChangedEvent.of(notification.getUser().getId()));
+        });
+    }
+
+    /**
+     * Sends one notification to every recipient of the broadcast: recipients
+     * come from a single query and rows go in through JDBC batches. Returns
+     * the number of recipients.
+     */
+    public int broadcastNotification(BroadcastRequest request) {
+        if (request.getRole() == null && request.getDepartmentId() == null) {
+            throw new RuntimeException("A broadcast needs a role, a department, or both");
+        }
+        if (request.getTitle() == null || request.getTitle().isBlank()
+                || request.getMessage() == null || request.getMessage().isBlank()) {
+            throw new RuntimeException("A broadcast needs a title and a message");
+        }
+
+        List<Long> recipients = userRepository.findBroadcastRecipientIds(request.getRole(), request.getDepartmentId());
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+        NotificationType type = request.getType() != null ? request.getType() : NotificationType.GENERAL;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(BROADCAST_INSERT_SQL, recipients, BROADCAST_BATCH_SIZE, (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, request.getTitle());
+            ps.setString(3, request.getMessage());
+            ps.setString(4, type.name());
+            ps.setString(5, request.getReferenceType());
+            ps.setObject(6, request.getReferenceId());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(new HashSet<>(recipients)));
+        return recipients.size();
     }
 
     // ========== Appointment Reminder Methods ==========
@@ -145,16 +231,26 @@ public class NotificationService {
                 "BILL", billId);
     }
 
+    public void sendWaitlistBookingNotification(Long userId, Long appointmentId, String doctorName,
+                                                LocalDateTime appointmentDateTime) {
+        String title = "Appointment Booked From Waitlist";
+        String message = String.format("A slot opened up: you are booked with %s on %s at %s.",
+                doctorName,
+                appointmentDateTime.toLocalDate().toString(),
+                appointmentDateTime.toLocalTime().toString());
+
+        createNotification(userId, title, message, NotificationType.APPOINTMENT_CONFIRMED,
+                "APPOINTMENT", appointmentId);
+    }
+
     // ========== Process Scheduled Notifications ==========
 
-    public void processScheduledNotifications() {
-        List<Notification> pendingNotifications = notificationRepository
-                .findPendingScheduledNotifications(LocalDateTime.now());
-        
-        for (Notification notification : pendingNotifications) {
-            notification.setSentAt(LocalDateTime.now());
-            notificationRepository.save(notification);
-            // Here you could also trigger email/SMS sending
-        }
+    /**
+     * Marks every due scheduled notification as sent in one statement.
+     * NotificationDispatcher normally sends each one when it falls due; this
+     * is a manual catch-up.
+     */
+    public int processScheduledNotifications() {
+        return notificationRepository.markDueAsSent(LocalDateTime.now());
     }
 }
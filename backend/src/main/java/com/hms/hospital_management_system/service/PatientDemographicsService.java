@@ -0,0 +1,100 @@
+package com.hms.hospital_management_system.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hms.hospital_management_system.dto.PatientDemographics;
+import com.hms.hospital_management_system.dto.PatientDemographics.AgeBands;
+import com.hms.hospital_management_system.dto.PatientDemographics.DailyAgeBands;
+import com.hms.hospital_management_system.repository.AppointmentRepository;
+import com.hms.hospital_management_system.repository.AppointmentRepository.DailyAgeBreakdown;
+import com.hms.hospital_management_system.repository.DepartmentRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Age-band breakdowns of appointments (child / adult / elderly), computed by a
+ * single grouped query so no patient rows are loaded regardless of volume.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PatientDemographicsService {
+
+    // Children are under CHILD_MAX_AGE, the elderly ELDERLY_MIN_AGE and over, at the appointment date
+    public static final int CHILD_MAX_AGE = 18;
+    public static final int ELDERLY_MIN_AGE = 60;
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final AppointmentRepository appointmentRepository;
+    private final DepartmentRepository departmentRepository;
+
+    /**
+     * Age bands for every day from {@code startDate} to {@code endDate} inclusive,
+     * optionally limited to one department's doctors. Days without appointments are
+     * included with zero counts.
+     */
+    public PatientDemographics getAgeBands(LocalDate startDate, LocalDate endDate, Long departmentId) {
+        if (endDate.isBefore(startDate)) {
+            throw new RuntimeException("End date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new RuntimeException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+        if (departmentId != null && !departmentRepository.existsById(departmentId)) {
+            throw new RuntimeException("Department not found with id: " + departmentId);
+        }
+
+        Map<LocalDate, DailyAgeBreakdown> byDay = appointmentRepository.countAgeGroupsByDay(
+                        startDate, endDate, departmentId, CHILD_MAX_AGE, ELDERLY_MIN_AGE).stream()
+                .collect(Collectors.toMap(DailyAgeBreakdown::getDay, Function.identity()));
+
+        List<DailyAgeBands> days = new ArrayList<>();
+        long child = 0, adult = 0, elderly = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DailyAgeBands bands = toDailyAgeBands(date, byDay.get(date));
+            child += bands.getChild();
+            adult += bands.getAdult();
+            elderly += bands.getElderly();
+            days.add(bands);
+        }
+
+        return PatientDemographics.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .departmentId(departmentId)
+                .totals(AgeBands.builder()
+                        .child(child)
+                        .adult(adult)
+                        .elderly(elderly)
+                        .total(child + adult + elderly)
+                        .build())
+                .days(days)
+                .build();
+    }
+
+    private DailyAgeBands toDailyAgeBands(LocalDate date, DailyAgeBreakdown day) {
+        long child = 0, elderly = 0, total = 0;
+        if (day != null) {
+            child = day.getChild();
+            elderly = day.getElderly();
+            total = day.getTotal();
+        }
+        return DailyAgeBands.builder()
+                .date(date)
+                .child(child)
+                .adult(total - child - elderly) // Default to adult if no DOB
+                .elderly(elderly)
+                .total(total)
+                .build();
+    }
+}
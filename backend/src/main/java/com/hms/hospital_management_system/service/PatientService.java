@@ -18,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 public class PatientService {
 
     private final PatientRepository patientRepository;
+    private final DashboardCounterService dashboardCounterService;
 
     public List<Patient> getAllPatients() {
         return patientRepository.findAll();
@@ -35,7 +36,9 @@ public class PatientService {
         if (patient.getEmail() != null && patientRepository.existsByEmail(patient.getEmail())) {
             throw new RuntimeException("Patient with email " + patient.getEmail() + " already exists");
         }
-        return patientRepository.save(patient);
+        Patient saved = patientRepository.save(patient);
+        dashboardCounterService.increment(DashboardCounterService.TOTAL_PATIENTS);
+        return saved;
     }
 
     public Patient updatePatient(Long id, Patient patientDetails) {
@@ -61,6 +64,7 @@ public class PatientService {
             throw new RuntimeException("Patient not found with id: " + id);
         }
         patientRepository.deleteById(id);
+        dashboardCounterService.decrement(DashboardCounterService.TOTAL_PATIENTS);
     }
 
     public List<Patient> searchPatientsByName(String name) {
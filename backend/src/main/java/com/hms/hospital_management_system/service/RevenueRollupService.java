@@ -0,0 +1,179 @@
+package com.hms.hospital_management_system.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hms.hospital_management_system.entity.Bill;
+import com.hms.hospital_management_system.entity.Bill.PaymentStatus;
+import com.hms.hospital_management_system.entity.RevenueDaily;
+import com.hms.hospital_management_system.repository.BillRepository;
+import com.hms.hospital_management_system.repository.BillRepository.DailyRevenue;
+import com.hms.hospital_management_system.repository.BillRepository.DateRange;
+import com.hms.hospital_management_system.repository.RevenueDailyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the revenue_daily rollup: paid revenue per bill date and payment
+ * method. Billing write paths capture a bill's contribution before and after
+ * the change and the difference is applied in the same transaction; a batch
+ * job rebuilds the rollup from the bills for backfill and drift repair.
+ *
+ * Until the first backfill has completed, reads fall back to the bill table.
+ */
+@Service
+@Slf4j
+public class RevenueRollupService {
+
+    private final RevenueDailyRepository revenueDailyRepository;
+    private final BillRepository billRepository;
+    private final TransactionTemplate chunkTx;
+    private final int chunkDays;
+    private final int rebuildDays;
+
+    private volatile boolean ready;
+
+    public RevenueRollupService(RevenueDailyRepository revenueDailyRepository, BillRepository billRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${revenue.rollup.backfill-chunk-days:31}") int chunkDays,
+            @Value("${revenue.rollup.rebuild-days:30}") int rebuildDays) {
+        this.revenueDailyRepository = revenueDailyRepository;
+        this.billRepository = billRepository;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkDays = Math.max(1, chunkDays);
+        this.rebuildDays = Math.max(1, rebuildDays);
+    }
+
+    /**
+     * What a bill adds to the rollup: nothing unless it is paid.
+     */
+    public record Contribution(LocalDate day, String paymentMethod, double amount) {
+    }
+
+    public static Contribution contributionOf(Bill bill) {
+        if (bill.getPaymentStatus() != PaymentStatus.PAID || bill.getBillDate() == null) {
+            return null;
+        }
+        String method = bill.getPaymentMethod() != null
+                ? bill.getPaymentMethod().name() : RevenueDaily.UNSPECIFIED_METHOD;
+        double amount = bill.getNetAmount() != null ? bill.getNetAmount() : 0.0;
+        return new Contribution(bill.getBillDate(), method, amount);
+    }
+
+    // ========== Write Paths ==========
+
+    /**
+     * Moves a bill's contribution from {@code before} to {@code after}; either may be null.
+     */
+    @Transactional
+    public void billChanged(Contribution before, Contribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null) {
+            revenueDailyRepository.applyDelta(before.day(), before.paymentMethod(), -before.amount(), -1);
+        }
+        if (after != null) {
+            revenueDailyRepository.applyDelta(after.day(), after.paymentMethod(), after.amount(), 1);
+        }
+    }
+
+    // ========== Reading ==========
+
+    @Transactional(readOnly = true)
+    public Double getPaidRevenue(LocalDate startDate, LocalDate endDate) {
+        if (!ready) {
+            Double revenue = billRepository.getTotalRevenueByDateRange(startDate, endDate);
+            return revenue != null ? revenue : 0.0;
+        }
+        return revenueDailyRepository.sumPaidAmount(startDate, endDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyRevenue> getPaidRevenueByDay(LocalDate startDate, LocalDate endDate) {
+        if (!ready) {
+            return billRepository.sumPaidRevenueByDay(startDate, endDate);
+        }
+        return revenueDailyRepository.sumPaidAmountByDay(startDate, endDate);
+    }
+
+    // ========== Backfill ==========
+
+    /**
+     * Backfills the rollup on startup when it does not account for every paid
+     * bill, e.g. on first deployment. Payments arriving meanwhile are safe: a
+     * chunk rebuild either includes the bill or the bill's delta lands on top.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfIncomplete() {
+        long rolledUp = revenueDailyRepository.sumBillCount();
+        long paid = billRepository.countByPaymentStatus(PaymentStatus.PAID);
+        if (rolledUp != paid) {
+            log.info("Revenue rollup covers {} of {} paid bills, backfilling", rolledUp, paid);
+            rebuildAll();
+        }
+        ready = true;
+    }
+
+    /**
+     * Rebuilds the trailing window nightly to repair any drift from
+     * out-of-band changes to the bill table.
+     */
+    @Scheduled(cron = "${revenue.rollup.rebuild-cron:0 30 3 * * *}")
+    public void scheduledRebuild() {
+        LocalDate today = LocalDate.now();
+        rebuild(today.minusDays(rebuildDays - 1), today);
+    }
+
+    public Map<String, Object> rebuildAll() {
+        DateRange range = billRepository.findPaidBillDateRange();
+        if (range == null || range.getFirstDay() == null) {
+            return rebuildReport(null, null, 0, 0);
+        }
+        return rebuild(range.getFirstDay(), range.getLastDay());
+    }
+
+    /**
+     * Recomputes the rollup for a date range from the paid bills, one chunk of
+     * days per transaction so a large backfill never holds locks for long.
+     */
+    public Map<String, Object> rebuild(LocalDate startDate, LocalDate endDate) {
+        long started = System.currentTimeMillis();
+        int rowsWritten = 0;
+        for (LocalDate chunkStart = startDate; !chunkStart.isAfter(endDate); chunkStart = chunkStart.plusDays(chunkDays)) {
+            LocalDate from = chunkStart;
+            LocalDate to = chunkStart.plusDays(chunkDays - 1L).isAfter(endDate) ? endDate : chunkStart.plusDays(chunkDays - 1L);
+            Integer written = chunkTx.execute(status -> {
+                revenueDailyRepository.deleteByDateRange(from, to);
+                return revenueDailyRepository.insertFromBills(from, to);
+            });
+            rowsWritten += written != null ? written : 0;
+        }
+        long durationMs = System.currentTimeMillis() - started;
+        log.info("Revenue rollup rebuilt for {} to {}: {} rows in {} ms", startDate, endDate, rowsWritten, durationMs);
+        return rebuildReport(startDate, endDate, rowsWritten, durationMs);
+    }
+
+    private Map<String, Object> rebuildReport(LocalDate startDate, LocalDate endDate, int rowsWritten, long durationMs) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rebuiltAt", LocalDateTime.now());
+        report.put("startDate", startDate);
+        report.put("endDate", endDate);
+        report.put("rowsWritten", rowsWritten);
+        report.put("durationMs", durationMs);
+        return report;
+    }
+}
@@ -20,6 +20,7 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
     private final DepartmentRepository departmentRepository;
+    private final DashboardCounterService dashboardCounterService;
 
     public List<Room> getAllRooms() {
         return roomRepository.findAll();
@@ -37,7 +38,9 @@ public class RoomService {
         if (roomRepository.existsByRoomNumber(room.getRoomNumber())) {
             throw new RuntimeException("Room with number " + room.getRoomNumber() + " already exists");
         }
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        dashboardCounterService.roomStatusChanged(null, saved.getStatus());
+        return saved;
     }
 
     public Room createRoomWithDepartment(Room room, Long departmentId) {
@@ -53,6 +56,7 @@ public class RoomService {
         Room room = roomRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Room not found with id: " + id));
 
+        dashboardCounterService.roomStatusChanged(room.getStatus(), roomDetails.getStatus());
         room.setRoomNumber(roomDetails.getRoomNumber());
         room.setRoomType(roomDetails.getRoomType());
         room.setFloorNumber(roomDetails.getFloorNumber());
@@ -68,6 +72,7 @@ public class RoomService {
         Room room = roomRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Room not found with id: " + id));
         
+        dashboardCounterService.roomStatusChanged(room.getStatus(), status);
         room.setStatus(status);
         return roomRepository.save(room);
     }
@@ -83,10 +88,10 @@ public class RoomService {
     }
 
     public void deleteRoom(Long id) {
-        if (!roomRepository.existsById(id)) {
-            throw new RuntimeException("Room not found with id: " + id);
-        }
-        roomRepository.deleteById(id);
+        Room room = roomRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Room not found with id: " + id));
+        roomRepository.delete(room);
+        dashboardCounterService.roomStatusChanged(room.getStatus(), null);
     }
 
     public List<Room> getRoomsByType(RoomType roomType) {
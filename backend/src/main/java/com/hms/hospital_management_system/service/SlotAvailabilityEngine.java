@@ -0,0 +1,340 @@
+package com.hms.hospital_management_system.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hms.hospital_management_system.entity.Doctor;
+import com.hms.hospital_management_system.event.AppointmentChangedEvent;
+import com.hms.hospital_management_system.event.AppointmentsBookedEvent;
+import com.hms.hospital_management_system.event.DoctorScheduleChangedEvent;
+import com.hms.hospital_management_system.repository.AppointmentRepository;
+import com.hms.hospital_management_system.repository.AppointmentRepository.BookedTime;
+
+/**
+ * Answers slot availability from a per-doctor, per-day bitmap with one bit per
+ * minute, set for every minute covered by an active booking. A day is loaded
+ * with a single query and cached; a slot is free when no bit in its range is set.
+ *
+ * Cached days are dropped after commit of any appointment change for the doctor
+ * or a change to the doctor's schedule. As in {@link DashboardSnapshotCache}, a
+ * day loaded while that doctor was invalidated is not stored; changes for
+ * other doctors do not affect it.
+ */
+@Component
+public class SlotAvailabilityEngine {
+
+    public static final LocalTime DEFAULT_WORK_START = LocalTime.of(9, 0);
+    public static final LocalTime DEFAULT_WORK_END = LocalTime.of(17, 0);
+    public static final int DEFAULT_SLOT_MINUTES = 30;
+    public static final int MIN_SLOT_MINUTES = 5;
+    public static final int MAX_SLOT_MINUTES = 240;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int SEARCH_CHUNK_DAYS = 7;
+
+    private final AppointmentRepository appointmentRepository;
+    private final Map<DayKey, BitSet> days;
+
+    // Per doctor, bumped on each invalidation; a load is discarded if its doctor's changed meanwhile.
+    // Guarded by the days lock.
+    private final Map<Long, Long> generations = new HashMap<>();
+
+    private record DayKey(Long doctorId, LocalDate date) {}
+
+    public SlotAvailabilityEngine(AppointmentRepository appointmentRepository,
+            @Value("${appointments.availability.cache-max-entries:5000}") int maxEntries) {
+        this.appointmentRepository = appointmentRepository;
+        // Access-ordered so the least recently queried day is evicted first
+        this.days = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DayKey, BitSet> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // ========== Doctor Schedule ==========
+
+    public static LocalTime workStart(Doctor doctor) {
+        return doctor.getWorkStartTime() != null ? doctor.getWorkStartTime() : DEFAULT_WORK_START;
+    }
+
+    public static LocalTime workEnd(Doctor doctor) {
+        return doctor.getWorkEndTime() != null ? doctor.getWorkEndTime() : DEFAULT_WORK_END;
+    }
+
+    public static int slotMinutes(Doctor doctor) {
+        return doctor.getSlotMinutes() != null ? doctor.getSlotMinutes() : DEFAULT_SLOT_MINUTES;
+    }
+
+    /**
+     * Rejects a schedule the slot search cannot work with: a slot length outside
+     * 5-240 minutes (zero would never advance) or hours that do not start before
+     * they end. Null fields stand for the defaults.
+     */
+    public static void validateSchedule(Doctor doctor) {
+        if (!workStart(doctor).isBefore(workEnd(doctor))) {
+            throw new RuntimeException("Working hours must start before they end");
+        }
+        int slot = slotMinutes(doctor);
+        if (slot < MIN_SLOT_MINUTES || slot > MAX_SLOT_MINUTES) {
+            throw new RuntimeException("Slot length must be between " + MIN_SLOT_MINUTES + " and "
+                    + MAX_SLOT_MINUTES + " minutes");
+        }
+    }
+
+    // ========== Queries ==========
+
+    /**
+     * Slot start times within the doctor's working hours that no booking overlaps.
+     */
+    public List<LocalTime> getFreeSlots(Doctor doctor, LocalDate date) {
+        return freeSlots(doctor, bookedMinutes(doctor, date));
+    }
+
+    /**
+     * Free slots for several doctors over a date range. Days already cached are
+     * reused; all missing days are loaded together with one range query.
+     */
+    public Map<Long, Map<LocalDate, List<LocalTime>>> getFreeSlots(List<Doctor> doctors,
+            LocalDate startDate, LocalDate endDate) {
+        Map<DayKey, BitSet> booked = bitmaps(doctors, startDate, endDate);
+        Map<Long, Map<LocalDate, List<LocalTime>>> free = new LinkedHashMap<>();
+        for (Doctor doctor : doctors) {
+            Map<LocalDate, List<LocalTime>> byDay = new LinkedHashMap<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                byDay.put(date, freeSlots(doctor, booked.get(new DayKey(doctor.getId(), date))));
+            }
+            free.put(doctor.getId(), byDay);
+        }
+        return free;
+    }
+
+    public record SlotMatch(Doctor doctor, LocalDate date, LocalTime time) {}
+
+    /**
+     * The earliest slot start, on the doctors' slot grids, that leaves
+     * {@code durationMinutes} (or one slot when null) free within working hours, at or after
+     * {@code notBefore} and no later than {@code lastDate}. Ties go to the
+     * doctor listed first. Days are fetched a week at a time and each day is
+     * searched by jumping over booked runs rather than testing every slot.
+     */
+    public Optional<SlotMatch> findEarliest(List<Doctor> doctors, LocalDateTime notBefore, LocalDate lastDate,
+            Integer durationMinutes) {
+        LocalDate firstDate = notBefore.toLocalDate();
+        for (LocalDate chunkStart = firstDate; !chunkStart.isAfter(lastDate);
+                chunkStart = chunkStart.plusDays(SEARCH_CHUNK_DAYS)) {
+            LocalDate chunkEnd = chunkStart.plusDays(SEARCH_CHUNK_DAYS - 1L);
+            if (chunkEnd.isAfter(lastDate)) {
+                chunkEnd = lastDate;
+            }
+            Map<DayKey, BitSet> booked = bitmaps(doctors, chunkStart, chunkEnd);
+            for (LocalDate date = chunkStart; !date.isAfter(chunkEnd); date = date.plusDays(1)) {
+                int fromMinute = date.equals(firstDate) ? minuteOfDay(notBefore.toLocalTime()) : 0;
+                Doctor best = null;
+                int bestStart = Integer.MAX_VALUE;
+                for (Doctor doctor : doctors) {
+                    int start = earliestFit(doctor, booked.get(new DayKey(doctor.getId(), date)),
+                            fromMinute, durationMinutes != null ? durationMinutes : slotMinutes(doctor));
+                    if (start >= 0 && start < bestStart) {
+                        best = doctor;
+                        bestStart = start;
+                    }
+                }
+                if (best != null) {
+                    return Optional.of(new SlotMatch(best, date, LocalTime.of(bestStart / 60, bestStart % 60)));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int earliestFit(Doctor doctor, BitSet booked, int fromMinute, int durationMinutes) {
+        int length = slotMinutes(doctor);
+        int workStart = minuteOfDay(workStart(doctor));
+        int end = minuteOfDay(workEnd(doctor));
+        int start = alignUp(Math.max(fromMinute, workStart), workStart, length);
+        while (start + durationMinutes <= end) {
+            int next = booked.nextSetBit(start);
+            if (next == -1 || next >= start + durationMinutes) {
+                return start;
+            }
+            // Skip the whole booked run, then back onto the slot grid
+            start = alignUp(booked.nextClearBit(next), workStart, length);
+        }
+        return -1;
+    }
+
+    // minute is never before gridStart
+    private static int alignUp(int minute, int gridStart, int step) {
+        return gridStart + (minute - gridStart + step - 1) / step * step;
+    }
+
+    /**
+     * Bitmaps for every doctor and day in the range: cached days are reused and
+     * the rest are loaded together with one range query.
+     */
+    private Map<DayKey, BitSet> bitmaps(List<Doctor> doctors, LocalDate startDate, LocalDate endDate) {
+        Map<DayKey, BitSet> booked = new HashMap<>();
+        Map<Long, Doctor> toLoad = new LinkedHashMap<>();
+        synchronized (days) {
+            for (Doctor doctor : doctors) {
+                for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                    DayKey key = new DayKey(doctor.getId(), date);
+                    BitSet cached = days.get(key);
+                    if (cached != null) {
+                        booked.put(key, cached);
+                    } else {
+                        toLoad.put(doctor.getId(), doctor);
+                    }
+                }
+            }
+        }
+        if (!toLoad.isEmpty()) {
+            booked.putAll(loadRange(toLoad, startDate, endDate, booked.keySet()));
+        }
+        return booked;
+    }
+
+    private List<LocalTime> freeSlots(Doctor doctor, BitSet booked) {
+        int length = slotMinutes(doctor);
+        int end = minuteOfDay(workEnd(doctor));
+
+        List<LocalTime> free = new ArrayList<>();
+        for (int start = minuteOfDay(workStart(doctor)); start + length <= end; start += length) {
+            if (isClear(booked, start, start + length)) {
+                free.add(LocalTime.of(start / 60, start % 60));
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Whether a booking starting at {@code time} would overlap an existing one.
+     */
+    public boolean isFree(Doctor doctor, LocalDate date, LocalTime time) {
+        int start = minuteOfDay(time);
+        return isClear(bookedMinutes(doctor, date), start, Math.min(start + slotMinutes(doctor), MINUTES_PER_DAY));
+    }
+
+    private boolean isClear(BitSet booked, int fromMinute, int toMinute) {
+        int next = booked.nextSetBit(fromMinute);
+        return next == -1 || next >= toMinute;
+    }
+
+    /**
+     * The day's bitmap; never mutated once cached, so callers may read it freely.
+     */
+    private BitSet bookedMinutes(Doctor doctor, LocalDate date) {
+        DayKey key = new DayKey(doctor.getId(), date);
+        long startGeneration;
+        synchronized (days) {
+            BitSet cached = days.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            startGeneration = generationOf(doctor.getId());
+        }
+
+        BitSet booked = new BitSet(MINUTES_PER_DAY);
+        int length = slotMinutes(doctor);
+        for (LocalTime time : appointmentRepository.findBookedTimes(doctor.getId(), date)) {
+            int start = minuteOfDay(time);
+            booked.set(start, Math.min(start + length, MINUTES_PER_DAY));
+        }
+        synchronized (days) {
+            if (generationOf(doctor.getId()) == startGeneration) {
+                days.put(key, booked);
+            }
+        }
+        return booked;
+    }
+
+    /**
+     * Builds the bitmaps of every day in the range for the given doctors from a
+     * single query and caches those not already cached.
+     */
+    private Map<DayKey, BitSet> loadRange(Map<Long, Doctor> doctors, LocalDate startDate, LocalDate endDate,
+            Set<DayKey> alreadyCached) {
+        Map<Long, Long> startGenerations = new HashMap<>();
+        synchronized (days) {
+            doctors.keySet().forEach(doctorId -> startGenerations.put(doctorId, generationOf(doctorId)));
+        }
+        Map<DayKey, BitSet> loaded = new HashMap<>();
+        for (Long doctorId : doctors.keySet()) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                loaded.put(new DayKey(doctorId, date), new BitSet(MINUTES_PER_DAY));
+            }
+        }
+        List<BookedTime> bookings = appointmentRepository.findBookedTimesForDoctors(
+                new ArrayList<>(doctors.keySet()), startDate, endDate);
+        for (BookedTime booking : bookings) {
+            int start = minuteOfDay(booking.getTime());
+            int length = slotMinutes(doctors.get(booking.getDoctorId()));
+            loaded.get(new DayKey(booking.getDoctorId(), booking.getDate()))
+                    .set(start, Math.min(start + length, MINUTES_PER_DAY));
+        }
+        loaded.keySet().removeAll(alreadyCached);
+        synchronized (days) {
+            loaded.forEach((key, bitmap) -> {
+                if (generationOf(key.doctorId()) == startGenerations.get(key.doctorId())) {
+                    days.put(key, bitmap);
+                }
+            });
+        }
+        return loaded;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    // ========== Invalidation ==========
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentChanged(AppointmentChangedEvent event) {
+        invalidateDoctor(event.doctorId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppointmentsBooked(AppointmentsBookedEvent event) {
+        synchronized (days) {
+            event.doctorIds().forEach(doctorId -> generations.merge(doctorId, 1L, Long::sum));
+            days.keySet().removeIf(key -> event.doctorIds().contains(key.doctorId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDoctorScheduleChanged(DoctorScheduleChangedEvent event) {
+        invalidateDoctor(event.doctorId());
+    }
+
+    public void invalidateDoctor(Long doctorId) {
+        if (doctorId == null) {
+            return;
+        }
+        synchronized (days) {
+            generations.merge(doctorId, 1L, Long::sum);
+            days.keySet().removeIf(key -> key.doctorId().equals(doctorId));
+        }
+    }
+
+    // Caller holds the days lock
+    private long generationOf(Long doctorId) {
+        return generations.getOrDefault(doctorId, 0L);
+    }
+}
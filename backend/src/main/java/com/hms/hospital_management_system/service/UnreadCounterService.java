@@ -0,0 +1,201 @@
+package com.hms.hospital_management_system.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hms.hospital_management_system.dto.UnreadCounts;
+import com.hms.hospital_management_system.event.UnreadCountChangedEvent;
+import com.hms.hospital_management_system.repository.MessageRepository;
+import com.hms.hospital_management_system.repository.NotificationRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Unread notification and message counts per user, held in memory and pushed
+ * to the user's open sidebars over server-sent events when they change.
+ *
+ * A user's counts are loaded on first use. After a write commits, the users it
+ * touched are recounted on a single background thread, one grouped query per
+ * table for everyone changed since the last flush, and only changed counts
+ * are sent. Recounting after commit instead of applying deltas keeps the
+ * cache exact regardless of how writes interleave.
+ */
+@Service
+@Slf4j
+public class UnreadCounterService {
+
+    private final NotificationRepository notificationRepository;
+    private final MessageRepository messageRepository;
+    private final long emitterTimeoutMs;
+
+    private final Map<Long, UnreadCounts> counts = new ConcurrentHashMap<>();
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    // Bumped for a user after each committed change; a load that saw it move is not cached
+    private final Map<Long, Long> changeStamps = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    private final ExecutorService publisher;
+
+    public UnreadCounterService(NotificationRepository notificationRepository, MessageRepository messageRepository,
+            @Value("${notifications.stream.timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.notificationRepository = notificationRepository;
+        this.messageRepository = messageRepository;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.publisher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "unread-counters");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+        emitters.values().forEach(list -> list.forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    public UnreadCounts getCounts(Long userId) {
+        UnreadCounts cached = counts.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        Long stamp = changeStamps.get(userId);
+        UnreadCounts loaded = new UnreadCounts(
+                notificationRepository.countUnreadByUserId(userId),
+                messageRepository.countByReceiverIdAndIsReadFalse(userId));
+        counts.compute(userId, (id, existing) -> existing != null ? existing
+                : Objects.equals(changeStamps.get(id), stamp) ? loaded : null);
+        return loaded;
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> removeEmitter(userId, emitter));
+        emitter.onTimeout(() -> removeEmitter(userId, emitter));
+        emitter.onError(e -> removeEmitter(userId, emitter));
+
+        // Registered before reading the counts, so a change committed in between is pushed too
+        emitters.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        try {
+            emitter.send(SseEmitter.event().name("counts").data(getCounts(userId)));
+        } catch (IOException | IllegalStateException e) {
+            removeEmitter(userId, emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    private void removeEmitter(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    // ========== Change Events ==========
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+        for (Long userId : event.userIds()) {
+            changeStamps.put(userId, clock.incrementAndGet());
+            // Open streams count too: a change racing subscribe() leaves the count uncached
+            if (counts.containsKey(userId) || emitters.containsKey(userId)) {
+                dirty.add(userId);
+            }
+        }
+        if (!dirty.isEmpty() && flushQueued.compareAndSet(false, true)) {
+            publisher.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        // Cleared first so changes committed during this flush queue another one
+        flushQueued.set(false);
+        List<Long> userIds = new ArrayList<>(dirty);
+        dirty.removeAll(userIds);
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, Long> notifications = new HashMap<>();
+            Map<Long, Long> messages = new HashMap<>();
+            // Bounded IN lists; a broadcast can touch every user at once
+            for (int from = 0; from < userIds.size(); from += 1_000) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + 1_000, userIds.size()));
+                notificationRepository.countUnreadByUserIds(chunk)
+                        .forEach(row -> notifications.put(row.getUserId(), row.getCount()));
+                messageRepository.countUnreadByReceiverIds(chunk)
+                        .forEach(row -> messages.put(row.getUserId(), row.getCount()));
+            }
+            for (Long userId : userIds) {
+                UnreadCounts updated = new UnreadCounts(
+                        notifications.getOrDefault(userId, 0L), messages.getOrDefault(userId, 0L));
+                UnreadCounts previous = counts.put(userId, updated);
+                if (!updated.equals(previous)) {
+                    push(userId, updated);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Dropped rather than served stale; the next read loads them again
+            userIds.forEach(counts::remove);
+            log.warn("Failed to refresh unread counts for {} users: {}", userIds.size(), e.getMessage());
+        }
+    }
+
+    private void push(Long userId, UnreadCounts updated) {
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            try {
+                emitter.send(SseEmitter.event().name("counts").data(updated));
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container completes the emitter
+                removeEmitter(userId, emitter);
+            }
+        }
+    }
+
+    // ========== Keep-alive ==========
+
+    /**
+     * Periodic comment line so idle connections are not dropped by proxies and
+     * dead clients are noticed and released.
+     */
+    @Scheduled(fixedDelayString = "${notifications.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    removeEmitter(userId, emitter);
+                }
+            }
+        });
+    }
+}
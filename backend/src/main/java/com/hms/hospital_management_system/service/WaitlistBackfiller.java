@@ -0,0 +1,214 @@
+package com.hms.hospital_management_system.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hms.hospital_management_system.dto.WaitlistMetrics;
+import com.hms.hospital_management_system.entity.Appointment;
+import com.hms.hospital_management_system.entity.Doctor;
+import com.hms.hospital_management_system.entity.WaitlistEntry;
+import com.hms.hospital_management_system.event.AppointmentSlotReleasedEvent;
+import com.hms.hospital_management_system.repository.AppointmentDayLockRepository;
+import com.hms.hospital_management_system.repository.AppointmentRepository;
+import com.hms.hospital_management_system.repository.UserRepository;
+import com.hms.hospital_management_system.repository.WaitlistEntryRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Books a slot freed by a cancellation, no-show, reschedule or delete for the
+ * head of that doctor's waitlist for the day, right after the release commits.
+ *
+ * Each backfill runs in its own transaction on a small pool and takes the same
+ * (doctor, day) lock as single bookings, then re-checks that the slot is still
+ * free. Concurrent releases, backfills and bookings of one doctor's day are
+ * therefore serialized. Patients cancel without that lock, so the entry is
+ * claimed with an update conditional on it still WAITING, the same condition
+ * a cancel uses: of a racing cancel and backfill exactly one takes effect.
+ */
+@Component
+@Slf4j
+public class WaitlistBackfiller {
+
+    private final TransactionTemplate tx;
+    private final ThreadPoolExecutor executor;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentDayLockRepository appointmentDayLockRepository;
+    private final AppointmentService appointmentService;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+
+    private final LocalDateTime since = LocalDateTime.now();
+    private final AtomicLong released = new AtomicLong();
+    private final AtomicLong filled = new AtomicLong();
+    private final AtomicLong noCandidate = new AtomicLong();
+    private final AtomicLong alreadyRebooked = new AtomicLong();
+    private final AtomicLong pastSlots = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong fillNanos = new AtomicLong();
+    private final AtomicLong maxFillNanos = new AtomicLong();
+
+    // Queue entries tried per released slot when earlier ones were cancelled concurrently
+    private static final int CLAIM_ATTEMPTS = 5;
+
+    private enum Outcome {
+        FILLED, NO_CANDIDATE, ALREADY_REBOOKED
+    }
+
+    public WaitlistBackfiller(PlatformTransactionManager transactionManager,
+            WaitlistEntryRepository waitlistEntryRepository,
+            AppointmentRepository appointmentRepository,
+            AppointmentDayLockRepository appointmentDayLockRepository,
+            AppointmentService appointmentService,
+            UserRepository userRepository,
+            NotificationService notificationService,
+            @Value("${appointments.waitlist.backfill-threads:4}") int threads) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.appointmentDayLockRepository = appointmentDayLockRepository;
+        this.appointmentService = appointmentService;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+
+        // Read committed, so the slot check sees bookings committed while waiting for the day lock.
+        // Always a new transaction: never join whatever is still bound to the releasing thread.
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tx.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 256),
+                r -> {
+                    Thread thread = new Thread(r, "waitlist-backfill-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSlotReleased(AppointmentSlotReleasedEvent event) {
+        if (!LocalDateTime.of(event.date(), event.time()).isAfter(LocalDateTime.now())) {
+            pastSlots.incrementAndGet();
+            return;
+        }
+        released.incrementAndGet();
+        long releasedAt = System.nanoTime();
+        try {
+            executor.execute(() -> backfill(event, releasedAt));
+        } catch (RejectedExecutionException e) {
+            // Queue full: the slot stays open for normal booking rather than stalling the releasing request
+            failed.incrementAndGet();
+            log.warn("Waitlist backfill for doctor {} on {} at {} rejected: backfill queue is full",
+                    event.doctorId(), event.date(), event.time());
+        }
+    }
+
+    private void backfill(AppointmentSlotReleasedEvent event, long releasedAt) {
+        try {
+            Outcome outcome = tx.execute(status -> assign(event));
+            switch (outcome) {
+                case FILLED -> {
+                    filled.incrementAndGet();
+                    long nanos = System.nanoTime() - releasedAt;
+                    fillNanos.addAndGet(nanos);
+                    maxFillNanos.accumulateAndGet(nanos, Math::max);
+                }
+                case NO_CANDIDATE -> noCandidate.incrementAndGet();
+                case ALREADY_REBOOKED -> alreadyRebooked.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.warn("Waitlist backfill for doctor {} on {} at {} failed: {}",
+                    event.doctorId(), event.date(), event.time(), e.getMessage());
+        }
+    }
+
+    private Outcome assign(AppointmentSlotReleasedEvent event) {
+        appointmentDayLockRepository.acquire(event.doctorId(), event.date());
+
+        List<WaitlistEntry> candidates = waitlistEntryRepository.findCandidates(
+                event.doctorId(), event.date(), event.time(), PageRequest.of(0, CLAIM_ATTEMPTS));
+        if (candidates.isEmpty()) {
+            return Outcome.NO_CANDIDATE;
+        }
+        Doctor doctor = candidates.get(0).getDoctor();
+
+        // Checked here rather than left to createAppointment, whose conflict exception would doom this transaction
+        int duration = SlotAvailabilityEngine.slotMinutes(doctor);
+        if (!appointmentRepository.findConflictingAppointments(doctor.getId(), event.date(),
+                event.time().minusMinutes(duration), event.time().plusMinutes(duration)).isEmpty()) {
+            return Outcome.ALREADY_REBOOKED;
+        }
+
+        // Claimed with a conditional update rather than by saving the loaded row, so a
+        // cancel committed meanwhile is never overwritten; the next in line is tried instead
+        WaitlistEntry entry = candidates.stream()
+                .filter(candidate -> waitlistEntryRepository.claimIfWaiting(candidate.getId(), LocalDateTime.now()) == 1)
+                .findFirst()
+                .orElse(null);
+        if (entry == null) {
+            return Outcome.NO_CANDIDATE;
+        }
+
+        Appointment appointment = appointmentService.createAppointment(Appointment.builder()
+                .appointmentDate(event.date())
+                .appointmentTime(event.time())
+                .reason(entry.getReason())
+                .notes("Booked from the waitlist")
+                .build(), entry.getPatient().getId(), doctor.getId());
+        waitlistEntryRepository.setAppointment(entry.getId(), appointment.getId());
+
+        userRepository.findByPatientId(entry.getPatient().getId()).ifPresent(user ->
+                notificationService.sendWaitlistBookingNotification(user.getId(), appointment.getId(),
+                        "Dr. " + doctor.getFirstName() + " " + doctor.getLastName(),
+                        LocalDateTime.of(event.date(), event.time())));
+        return Outcome.FILLED;
+    }
+
+    public WaitlistMetrics metrics(long waitingEntries) {
+        long releasedSlots = released.get();
+        long filledSlots = filled.get();
+        double seconds = Math.max(1, Duration.between(since, LocalDateTime.now()).toSeconds());
+        return WaitlistMetrics.builder()
+                .since(since)
+                .waitingEntries(waitingEntries)
+                .releasedSlots(releasedSlots)
+                .filledSlots(filledSlots)
+                .noCandidate(noCandidate.get())
+                .alreadyRebooked(alreadyRebooked.get())
+                .pastSlots(pastSlots.get())
+                .failedBackfills(failed.get())
+                .pendingBackfills(executor.getQueue().size() + executor.getActiveCount())
+                .fillRate(releasedSlots == 0 ? 0 : (double) filledSlots / releasedSlots)
+                .fillsPerSecond(filledSlots / seconds)
+                .averageFillMillis(filledSlots == 0 ? 0 : fillNanos.get() / 1e6 / filledSlots)
+                .maxFillMillis(TimeUnit.NANOSECONDS.toMillis(maxFillNanos.get()))
+                .build();
+    }
+}
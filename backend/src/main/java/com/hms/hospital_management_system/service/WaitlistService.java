@@ -0,0 +1,92 @@
+package com.hms.hospital_management_system.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hms.hospital_management_system.dto.WaitlistMetrics;
+import com.hms.hospital_management_system.dto.WaitlistRequest;
+import com.hms.hospital_management_system.entity.Doctor;
+import com.hms.hospital_management_system.entity.Patient;
+import com.hms.hospital_management_system.entity.WaitlistEntry;
+import com.hms.hospital_management_system.entity.WaitlistEntry.WaitlistStatus;
+import com.hms.hospital_management_system.repository.DoctorRepository;
+import com.hms.hospital_management_system.repository.PatientRepository;
+import com.hms.hospital_management_system.repository.WaitlistEntryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final WaitlistBackfiller waitlistBackfiller;
+
+    public WaitlistEntry addToWaitlist(WaitlistRequest request) {
+        if (request.getPatientId() == null || request.getDoctorId() == null || request.getDate() == null) {
+            throw new RuntimeException("patientId, doctorId and date are required");
+        }
+        if (request.getDate().isBefore(LocalDate.now())) {
+            throw new RuntimeException("Cannot join the waitlist for a past date");
+        }
+        if (request.getEarliestTime() != null && request.getLatestTime() != null
+                && request.getLatestTime().isBefore(request.getEarliestTime())) {
+            throw new RuntimeException("latestTime must not be before earliestTime");
+        }
+        Patient patient = patientRepository.findById(request.getPatientId())
+                .orElseThrow(() -> new RuntimeException("Patient not found with id: " + request.getPatientId()));
+        Doctor doctor = doctorRepository.findById(request.getDoctorId())
+                .orElseThrow(() -> new RuntimeException("Doctor not found with id: " + request.getDoctorId()));
+
+        WaitlistEntry entry = WaitlistEntry.builder()
+                .patient(patient)
+                .doctor(doctor)
+                .waitlistDate(request.getDate())
+                .earliestTime(request.getEarliestTime())
+                .latestTime(request.getLatestTime())
+                .priority(request.getPriority() != null ? request.getPriority() : 0)
+                .reason(request.getReason())
+                .status(WaitlistStatus.WAITING)
+                .build();
+        return waitlistEntryRepository.save(entry);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WaitlistEntry> getQueue(Long doctorId, LocalDate date) {
+        return waitlistEntryRepository.findQueue(doctorId, date);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WaitlistEntry> getPatientEntries(Long patientId) {
+        return waitlistEntryRepository.findByPatient(patientId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<WaitlistEntry> getEntry(Long id) {
+        return waitlistEntryRepository.findById(id);
+    }
+
+    // Conditional update, so a cancel racing a backfill cannot overwrite the booking (or be overwritten)
+    public WaitlistEntry cancelEntry(Long id) {
+        int cancelled = waitlistEntryRepository.cancelIfWaiting(id, LocalDateTime.now());
+        WaitlistEntry entry = waitlistEntryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Waitlist entry not found with id: " + id));
+        if (cancelled == 0) {
+            throw new RuntimeException("Waitlist entry is already " + entry.getStatus());
+        }
+        return entry;
+    }
+
+    @Transactional(readOnly = true)
+    public WaitlistMetrics getMetrics() {
+        return waitlistBackfiller.metrics(waitlistEntryRepository.countWaiting());
+    }
+}
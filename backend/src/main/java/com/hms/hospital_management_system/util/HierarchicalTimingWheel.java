@@ -0,0 +1,166 @@
+package com.hms.hospital_management_system.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed hierarchical timing wheel: five levels of 256 buckets, each level's
+ * bucket spanning a whole turn of the level below. Scheduling and expiring are
+ * O(1) per item; an item is only moved down a level when its higher-level
+ * bucket comes round, at most four times in its life.
+ *
+ * Items never expire before their deadline (rounded up to the next tick).
+ * Stretches of ticks with nothing to expire or cascade are skipped, so the
+ * owner can sleep until {@link #nextWorkMillis()} instead of ticking.
+ * Not thread-safe: one thread owns the wheel.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private static final int BITS = 8;
+    private static final int SIZE = 1 << BITS;
+    private static final int MASK = SIZE - 1;
+    private static final int LEVELS = 5;
+    // Deadlines further out than the wheel spans wait in the top level and are re-placed when reached
+    private static final long MAX_DELTA = (1L << (BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final List<List<Entry<T>>> buckets = new ArrayList<>(LEVELS * SIZE);
+    private long currentTick;
+    private int size;
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int i = 0; i < LEVELS * SIZE; i++) {
+            buckets.add(null);
+        }
+    }
+
+    /**
+     * Adds an item; returns false without adding it when its deadline has
+     * already been reached, so the caller can handle it right away.
+     */
+    public boolean schedule(T item, long deadlineMillis) {
+        long deadlineTick = -Math.floorDiv(-deadlineMillis, tickMillis); // rounded up
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        place(new Entry<>(item, deadlineTick));
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis}, handing every item whose
+     * deadline has been reached to {@code expired} in deadline order.
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            long nextTick = nextWorkTick();
+            if (nextTick > targetTick) {
+                currentTick = targetTick;
+                break;
+            }
+            // Nothing happens on the ticks in between
+            currentTick = nextTick;
+            // At the start of a higher level's bucket, spread its items over the levels below
+            for (int level = 1; level < LEVELS; level++) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) {
+                    break;
+                }
+                cascade(level, (int) ((currentTick >>> (BITS * level)) & MASK));
+            }
+            List<Entry<T>> due = take(0, (int) (currentTick & MASK));
+            if (due != null) {
+                size -= due.size();
+                for (Entry<T> entry : due) {
+                    expired.accept(entry.item());
+                }
+            }
+        }
+    }
+
+    /**
+     * Earliest time at which {@link #advance} has work to do, an expiry or a
+     * cascade to a lower level, or {@code Long.MAX_VALUE} when the wheel is
+     * empty. Always after the wheel's current time.
+     */
+    public long nextWorkMillis() {
+        long nextTick = nextWorkTick();
+        return nextTick == Long.MAX_VALUE ? Long.MAX_VALUE : nextTick * tickMillis;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // First tick after the current one that takes a non-empty bucket, at any level
+    private long nextWorkTick() {
+        if (size == 0) {
+            return Long.MAX_VALUE;
+        }
+        long best = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS * level;
+            long turn = currentTick >>> shift;
+            // A level's buckets are taken one per turn of the level below, so one lap covers them all
+            for (int k = 1; k <= SIZE; k++) {
+                long tick = (turn + k) << shift;
+                if (tick >= best) {
+                    break;
+                }
+                List<Entry<T>> entries = buckets.get(level * SIZE + (int) ((turn + k) & MASK));
+                if (entries != null && !entries.isEmpty()) {
+                    best = tick;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = Math.min(entry.deadlineTick() - currentTick, MAX_DELTA);
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        long slotTick = currentTick + delta;
+        int index = (int) ((slotTick >>> (BITS * level)) & MASK);
+        int bucket = level * SIZE + index;
+        List<Entry<T>> entries = buckets.get(bucket);
+        if (entries == null) {
+            entries = new ArrayList<>();
+            buckets.set(bucket, entries);
+        }
+        entries.add(entry);
+    }
+
+    private void cascade(int level, int index) {
+        List<Entry<T>> entries = take(level, index);
+        if (entries != null) {
+            for (Entry<T> entry : entries) {
+                place(entry);
+            }
+        }
+    }
+
+    private List<Entry<T>> take(int level, int index) {
+        int bucket = level * SIZE + index;
+        List<Entry<T>> entries = buckets.get(bucket);
+        buckets.set(bucket, null);
+        return entries;
+    }
+}
@@ -0,0 +1,31 @@
+package com.hms.hospital_management_system.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by id DESC, for tables whose ids follow
+ * insertion time: the id of the last row returned, handed to clients as an
+ * opaque URL-safe token like {@link KeysetCursor}.
+ */
+public record IdCursor(Long id) implements PageCursor {
+
+    @Override
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a token from {@link #encode()}; null or blank means the first page.
+     */
+    public static IdCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return new IdCursor(Long.valueOf(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.hms.hospital_management_system.util;
+
+/**
+ * Sort key of the last row of a keyset-paginated slice, handed to clients as
+ * an opaque token.
+ */
+public interface PageCursor {
+
+    String encode();
+}
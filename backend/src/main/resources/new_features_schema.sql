@@ -176,3 +176,116 @@ CREATE INDEX IF NOT EXISTS idx_audit_log_username ON audit_log(username);
 CREATE INDEX IF NOT EXISTS idx_audit_log_action ON audit_log(action);
 CREATE INDEX IF NOT EXISTS idx_audit_log_timestamp ON audit_log(timestamp);
 
+-- Dashboard aggregate queries (counts, trends, revenue per day)
+CREATE INDEX IF NOT EXISTS idx_patient_created_at ON patient(created_at);
+CREATE INDEX IF NOT EXISTS idx_appointment_created_at ON appointment(created_at);
+CREATE INDEX IF NOT EXISTS idx_bill_status_date ON bill(payment_status, bill_date);
+CREATE INDEX IF NOT EXISTS idx_appointment_date_doctor_patient ON appointment(appointment_date, doctor_id, patient_id);
+
+-- Slot availability (one doctor's day, or several doctors over a date range)
+CREATE INDEX IF NOT EXISTS idx_appointment_doctor_date ON appointment(doctor_id, appointment_date);
+
+-- Keyset pagination: each listing's (date, id) order, overall and per scope
+-- (the doctor-scoped appointment listing uses idx_appointment_doctor_date, which InnoDB extends with id)
+CREATE INDEX IF NOT EXISTS idx_appointment_date_id ON appointment(appointment_date, id);
+CREATE INDEX IF NOT EXISTS idx_appointment_patient_date ON appointment(patient_id, appointment_date, id);
+CREATE INDEX IF NOT EXISTS idx_bill_date_id ON bill(bill_date, id);
+CREATE INDEX IF NOT EXISTS idx_bill_patient_date ON bill(patient_id, bill_date, id);
+CREATE INDEX IF NOT EXISTS idx_medical_record_date_id ON medical_record(record_date, id);
+CREATE INDEX IF NOT EXISTS idx_medical_record_patient_date ON medical_record(patient_id, record_date, id);
+CREATE INDEX IF NOT EXISTS idx_medical_record_doctor_date ON medical_record(doctor_id, record_date, id);
+
+-- Dashboard Counters Table (pre-aggregated admin dashboard tiles)
+CREATE TABLE IF NOT EXISTS dashboard_counters (
+    counter_name VARCHAR(60) PRIMARY KEY,
+    counter_value BIGINT NOT NULL DEFAULT 0,
+    amount_total DOUBLE NOT NULL DEFAULT 0,
+    updated_at DATETIME
+);
+
+-- Daily Revenue Rollup (paid revenue per bill date and payment method)
+CREATE TABLE IF NOT EXISTS revenue_daily (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    revenue_date DATE NOT NULL,
+    payment_method VARCHAR(30) NOT NULL,
+    paid_amount DOUBLE NOT NULL DEFAULT 0,
+    bill_count BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME,
+    UNIQUE KEY uk_revenue_daily_date_method (revenue_date, payment_method)
+);
+
+-- Per-doctor working hours and appointment slot length (NULL = 09:00-17:00, 30 minutes)
+ALTER TABLE doctor ADD COLUMN IF NOT EXISTS work_start_time TIME;
+ALTER TABLE doctor ADD COLUMN IF NOT EXISTS work_end_time TIME;
+ALTER TABLE doctor ADD COLUMN IF NOT EXISTS slot_minutes INT;
+-- Same bounds as SlotAvailabilityEngine.validateSchedule; a zero or negative slot length would stall the slot search
+ALTER TABLE doctor ADD CONSTRAINT IF NOT EXISTS chk_doctor_slot_minutes
+    CHECK (slot_minutes IS NULL OR slot_minutes BETWEEN 5 AND 240);
+ALTER TABLE doctor ADD CONSTRAINT IF NOT EXISTS chk_doctor_work_hours
+    CHECK (COALESCE(work_start_time, '09:00:00') < COALESCE(work_end_time, '17:00:00'));
+
+-- Per-doctor, per-day booking lock (serializes conflict check and insert for one doctor's day)
+CREATE TABLE IF NOT EXISTS appointment_day_lock (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    doctor_id BIGINT NOT NULL,
+    lock_date DATE NOT NULL,
+    lock_count BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME,
+    UNIQUE KEY uk_appointment_day_lock_doctor_date (doctor_id, lock_date)
+);
+
+-- Recurring appointment series (occurrences share a series id)
+ALTER TABLE appointment ADD COLUMN IF NOT EXISTS series_id VARCHAR(36);
+CREATE INDEX IF NOT EXISTS idx_appointment_series ON appointment(series_id);
+
+-- Appointment waitlist (freed slots go to the highest priority, longest waiting entry)
+CREATE TABLE IF NOT EXISTS waitlist_entry (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    patient_id BIGINT NOT NULL,
+    doctor_id BIGINT NOT NULL,
+    waitlist_date DATE NOT NULL,
+    earliest_time TIME,
+    latest_time TIME,
+    priority INT NOT NULL DEFAULT 0,
+    reason VARCHAR(500),
+    status VARCHAR(20) NOT NULL,
+    appointment_id BIGINT,
+    booked_at DATETIME,
+    created_at DATETIME,
+    updated_at DATETIME,
+    FOREIGN KEY (patient_id) REFERENCES patient(id),
+    FOREIGN KEY (doctor_id) REFERENCES doctor(id)
+);
+CREATE INDEX IF NOT EXISTS idx_waitlist_queue ON waitlist_entry(doctor_id, waitlist_date, status, priority, created_at);
+CREATE INDEX IF NOT EXISTS idx_waitlist_patient ON waitlist_entry(patient_id, status);
+
+-- Unsent scheduled notifications, read once at startup by the notification dispatcher
+CREATE INDEX IF NOT EXISTS idx_notification_pending ON notification(sent_at, scheduled_for);
+
+-- Grouped unread counts per user, recounted after each write by the unread counter service
+CREATE INDEX IF NOT EXISTS idx_notification_user_read ON notification(user_id, is_read);
+CREATE INDEX IF NOT EXISTS idx_message_receiver_read ON message(receiver_id, is_read);
+
+-- Notification retention: keyset paging per user, archive selection, and the archive itself
+CREATE INDEX IF NOT EXISTS idx_notification_user ON notification(user_id, id);
+CREATE INDEX IF NOT EXISTS idx_notification_read_created ON notification(is_read, created_at);
+CREATE TABLE IF NOT EXISTS notification_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    message VARCHAR(1000) NOT NULL,
+    notification_type VARCHAR(30),
+    reference_type VARCHAR(255),
+    reference_id BIGINT,
+    scheduled_for DATETIME,
+    sent_at DATETIME,
+    created_at DATETIME,
+    updated_at DATETIME,
+    archived_at DATETIME NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_notification_archive_user ON notification_archive(user_id, id);
+
+-- Conversation list and history: latest message per partner from either side, grouped on these
+-- indexes; history pages read one direction of a conversation in (sent_at, id) order
+CREATE INDEX IF NOT EXISTS idx_message_sender_receiver_sent ON message(sender_id, receiver_id, sent_at, id);
+CREATE INDEX IF NOT EXISTS idx_message_receiver_sender_sent ON message(receiver_id, sender_id, sent_at, id);
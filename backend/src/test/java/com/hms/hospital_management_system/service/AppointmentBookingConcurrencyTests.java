@@ -0,0 +1,121 @@
+package com.hms.hospital_management_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hms.hospital_management_system.entity.Appointment;
+import com.hms.hospital_management_system.entity.Doctor;
+import com.hms.hospital_management_system.entity.Patient;
+
+/**
+ * Books overlapping slots for one doctor and day from many threads at once and
+ * checks that the day lock lets no two bookings overlap. Runs against the
+ * configured datasource, so the lock's ON DUPLICATE KEY upsert is exercised on MySQL.
+ */
+@SpringBootTest
+class AppointmentBookingConcurrencyTests {
+
+    private static final int THREADS = 16;
+    private static final int SLOT_MINUTES = 30;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private DoctorService doctorService;
+
+    @Autowired
+    private PatientService patientService;
+
+    private Doctor doctor;
+    private final List<Patient> patients = new ArrayList<>();
+    private final LocalDate date = LocalDate.now().plusYears(1);
+
+    @BeforeEach
+    void setUp() {
+        doctor = doctorService.createDoctor(Doctor.builder()
+                .firstName("Contention")
+                .lastName("Test")
+                .workStartTime(LocalTime.of(9, 0))
+                .workEndTime(LocalTime.of(17, 0))
+                .slotMinutes(SLOT_MINUTES)
+                .build());
+        for (int i = 0; i < THREADS; i++) {
+            patients.add(patientService.createPatient(Patient.builder()
+                    .firstName("Patient" + i)
+                    .lastName("Contention")
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Removes the doctor's appointments too, with their counter deltas
+        doctorService.deleteDoctor(doctor.getId());
+        patients.forEach(patient -> patientService.deletePatient(patient.getId()));
+    }
+
+    @Test
+    void concurrentBookingsNeverOverlap() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Long patientId = patients.get(i).getId();
+            // Four requests each for 10:00, 10:10, 10:20 and 10:30; every neighbour overlaps
+            LocalTime time = LocalTime.of(10, 0).plusMinutes(10L * (i % 4));
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    appointmentService.createAppointment(Appointment.builder()
+                            .appointmentDate(date)
+                            .appointmentTime(time)
+                            .reason("Contention test")
+                            .build(), patientId, doctor.getId());
+                    return true;
+                } catch (RuntimeException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int booked = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                booked++;
+            }
+        }
+        executor.shutdown();
+
+        List<Appointment> appointments = new ArrayList<>(
+                appointmentService.getAppointmentsByDoctorAndDate(doctor.getId(), date));
+        appointments.sort(Comparator.comparing(Appointment::getAppointmentTime));
+
+        assertThat(booked).isPositive();
+        assertThat(appointments).hasSize(booked);
+        for (int i = 1; i < appointments.size(); i++) {
+            long gap = ChronoUnit.MINUTES.between(
+                    appointments.get(i - 1).getAppointmentTime(), appointments.get(i).getAppointmentTime());
+            assertThat(gap).as("minutes between consecutive bookings").isGreaterThanOrEqualTo(SLOT_MINUTES);
+        }
+    }
+
+}
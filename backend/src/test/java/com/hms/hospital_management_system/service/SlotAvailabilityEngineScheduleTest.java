@@ -0,0 +1,58 @@
+package com.hms.hospital_management_system.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.hms.hospital_management_system.entity.Doctor;
+
+class SlotAvailabilityEngineScheduleTest {
+
+    @Test
+    void defaultsAreValid() {
+        assertThatCode(() -> SlotAvailabilityEngine.validateSchedule(new Doctor())).doesNotThrowAnyException();
+    }
+
+    @Test
+    void acceptsSlotLengthBounds() {
+        assertThatCode(() -> SlotAvailabilityEngine.validateSchedule(schedule(9, 17, 5))).doesNotThrowAnyException();
+        assertThatCode(() -> SlotAvailabilityEngine.validateSchedule(schedule(9, 17, 240))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsSlotLengthOutOfBounds() {
+        assertThatThrownBy(() -> SlotAvailabilityEngine.validateSchedule(schedule(9, 17, 0)))
+                .hasMessageStartingWith("Slot length");
+        assertThatThrownBy(() -> SlotAvailabilityEngine.validateSchedule(schedule(9, 17, -30)))
+                .hasMessageStartingWith("Slot length");
+        assertThatThrownBy(() -> SlotAvailabilityEngine.validateSchedule(schedule(9, 17, 241)))
+                .hasMessageStartingWith("Slot length");
+    }
+
+    @Test
+    void rejectsHoursThatDoNotStartBeforeTheyEnd() {
+        assertThatThrownBy(() -> SlotAvailabilityEngine.validateSchedule(schedule(17, 9, 30)))
+                .hasMessageStartingWith("Working hours");
+        assertThatThrownBy(() -> SlotAvailabilityEngine.validateSchedule(schedule(9, 9, 30)))
+                .hasMessageStartingWith("Working hours");
+    }
+
+    @Test
+    void checksAgainstDefaultsForMissingHours() {
+        Doctor endsBeforeDefaultStart = Doctor.builder().workEndTime(LocalTime.of(8, 0)).build();
+
+        assertThatThrownBy(() -> SlotAvailabilityEngine.validateSchedule(endsBeforeDefaultStart))
+                .hasMessageStartingWith("Working hours");
+    }
+
+    private static Doctor schedule(int startHour, int endHour, int slotMinutes) {
+        return Doctor.builder()
+                .workStartTime(LocalTime.of(startHour, 0))
+                .workEndTime(LocalTime.of(endHour, 0))
+                .slotMinutes(slotMinutes)
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.hms.hospital_management_system.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void rejectsNonPositiveTick() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(0, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deadlineAlreadyReachedIsNotScheduled() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, START);
+
+        assertThat(wheel.schedule("past", START - 1_000)).isFalse();
+        assertThat(wheel.schedule("now", START)).isFalse();
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    void itemExpiresAtItsDeadlineAndNotBefore() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, START);
+        wheel.schedule("a", START + 100);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(START + 99, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(START + 100, expired::add);
+        assertThat(expired).containsExactly("a");
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    void deadlinesAreRoundedUpToTheNextTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, START);
+        wheel.schedule("a", START + 15);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(START + 19, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(START + 20, expired::add);
+        assertThat(expired).containsExactly("a");
+    }
+
+    @Test
+    void itemsOnEveryLevelCascadeDownAndExpireInDeadlineOrder() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, START);
+        // Deltas either side of each level boundary (256^1 .. 256^4 ticks)
+        long[] deltas = {1, 255, 256, 257, 65_535, 65_536, 65_537, 16_777_215, 16_777_216, 16_777_217,
+                4_294_967_295L, 4_294_967_296L, 4_294_967_297L};
+        for (long delta : deltas) {
+            wheel.schedule(delta, START + delta);
+        }
+        assertThat(wheel.size()).isEqualTo(deltas.length);
+
+        List<Long> expired = new ArrayList<>();
+        for (long delta : deltas) {
+            wheel.advance(START + delta - 1, expired::add);
+            assertThat(expired).doesNotContain(delta);
+            wheel.advance(START + delta, expired::add);
+            assertThat(expired).endsWith(delta);
+        }
+        assertThat(expired).containsExactly(boxed(deltas));
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    void nextWorkMillisIsMaxWhenEmpty() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, START);
+
+        assertThat(wheel.nextWorkMillis()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void nextWorkMillisPointsAtTheExpiryOfANearItem() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, START);
+        wheel.schedule("a", START + 42);
+
+        assertThat(wheel.nextWorkMillis()).isEqualTo(START + 42);
+    }
+
+    @Test
+    void sleepingUntilNextWorkMillisNeverWakesLateOrMissesAnItem() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, START);
+        long deadline = START + 3L * 24 * 60 * 60 * 1000; // three days out
+        wheel.schedule("reminder", deadline);
+
+        List<String> expired = new ArrayList<>();
+        long now = START;
+        int wakeups = 0;
+        while (expired.isEmpty()) {
+            long next = wheel.nextWorkMillis();
+            assertThat(next).isGreaterThan(now).isLessThanOrEqualTo(deadline);
+            now = next;
+            wheel.advance(now, expired::add);
+            wakeups++;
+        }
+
+        assertThat(now).isEqualTo(deadline);
+        // Only cascade boundaries holding the item, not every tick
+        assertThat(wakeups).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void advancingOverALongGapExpiresEverythingDue() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, START);
+        for (int i = 1; i <= 1_000; i++) {
+            wheel.schedule(i, START + i * 1_000L);
+        }
+        List<Integer> expired = new ArrayList<>();
+
+        wheel.advance(START + 500_000, expired::add);
+
+        assertThat(expired).hasSize(500).isSorted();
+        assertThat(wheel.size()).isEqualTo(500);
+    }
+
+    @Test
+    void deadlineBeyondTheWheelSpanIsClampedAndStillExpiresOnTime() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, START);
+        long deadline = START + (1L << 41); // twice the span of five levels
+        wheel.schedule("far", deadline);
+
+        List<String> expired = new ArrayList<>();
+        long now = START;
+        int wakeups = 0;
+        while (expired.isEmpty() && wakeups < 10_000) {
+            now = wheel.nextWorkMillis();
+            wheel.advance(now, expired::add);
+            wakeups++;
+        }
+
+        assertThat(expired).containsExactly("far");
+        assertThat(now).isEqualTo(deadline);
+    }
+
+    @Test
+    void randomDeadlinesMatchASortedReference() {
+        Random random = new Random(42);
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, START);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long delta = 1 + (long) (Math.pow(random.nextDouble(), 3) * 40L * 24 * 60 * 60 * 1000);
+            deadlines.put(i, START + delta);
+            wheel.schedule(i, START + delta);
+        }
+
+        List<Integer> expired = new ArrayList<>();
+        long now = START;
+        while (!wheel.isEmpty()) {
+            // Sometimes overshoot the next piece of work, as a late-waking thread would
+            long next = wheel.nextWorkMillis();
+            now = random.nextInt(10) == 0 ? next + random.nextInt(100_000) : next;
+            long at = now;
+            wheel.advance(now, id -> {
+                assertThat(deadlines.get(id)).isLessThanOrEqualTo(at);
+                expired.add(id);
+            });
+        }
+
+        assertThat(expired).hasSize(deadlines.size());
+        List<Long> expiryOrder = expired.stream().map(deadlines::get).toList();
+        assertThat(expiryOrder).isSorted();
+    }
+
+    private static Long[] boxed(long[] values) {
+        Long[] result = new Long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+}
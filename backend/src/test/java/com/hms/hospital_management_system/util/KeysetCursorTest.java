@@ -0,0 +1,43 @@
+package com.hms.hospital_management_system.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        KeysetCursor cursor = new KeysetCursor(LocalDate.of(2026, 3, 14), 9_007_199_254_740_993L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(IdCursor.decode(new IdCursor(42L).encode())).isEqualTo(new IdCursor(42L));
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = new KeysetCursor(LocalDate.of(2026, 12, 31), Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void missingTokenMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+        assertThat(IdCursor.decode("")).isNull();
+    }
+
+    @Test
+    void rejectsTamperedTokens() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!"))
+                .hasMessageStartingWith("Invalid cursor");
+        assertThatThrownBy(() -> KeysetCursor.decode(new IdCursor(42L).encode()))
+                .hasMessageStartingWith("Invalid cursor");
+        assertThatThrownBy(() -> IdCursor.decode(new KeysetCursor(LocalDate.of(2026, 1, 1), 1L).encode()))
+                .hasMessageStartingWith("Invalid cursor");
+    }
+}
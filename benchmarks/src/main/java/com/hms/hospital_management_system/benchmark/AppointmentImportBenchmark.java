@@ -0,0 +1,70 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.hms.hospital_management_system.dto.AppointmentImportReport;
+import com.hms.hospital_management_system.service.AppointmentImportService;
+import com.hms.hospital_management_system.service.AppointmentImportService.Format;
+
+/**
+ * Bulk NDJSON import of 5,000 appointments spread over every seeded doctor,
+ * each call on fresh days so every row is inserted. Rows per second is
+ * {@code IMPORT_ROWS * 1000 / score}.
+ */
+@State(Scope.Benchmark)
+public class AppointmentImportBenchmark extends BenchmarkDefaults {
+
+    private static final int IMPORT_ROWS = 5_000;
+
+    private AppointmentImportService importService;
+    private long patients;
+    private long doctors;
+    private LocalDate nextDay;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        importService = db.bean(AppointmentImportService.class);
+        int rows = db.dataset().rows();
+        // Mirrors the generator's sizing
+        doctors = Math.max(10, rows / 2_000);
+        patients = Math.max(100, rows / 10);
+        nextDay = db.dataset().today().plusYears(2);
+    }
+
+    @Benchmark
+    public AppointmentImportReport importNdjson() {
+        // 16 half-hour slots per doctor and day, filled in order
+        int perDay = (int) doctors * 16;
+        int days = (IMPORT_ROWS + perDay - 1) / perDay;
+        LocalDate first = nextDay;
+        nextDay = nextDay.plusDays(days);
+
+        StringBuilder ndjson = new StringBuilder(IMPORT_ROWS * 120);
+        for (int i = 0; i < IMPORT_ROWS; i++) {
+            int dayIndex = i / perDay;
+            int slot = i % 16;
+            long doctorId = 1 + (i / 16) % doctors;
+            ndjson.append("{\"patientId\":").append(1 + i % patients)
+                    .append(",\"doctorId\":").append(doctorId)
+                    .append(",\"appointmentDate\":\"").append(first.plusDays(dayIndex))
+                    .append("\",\"appointmentTime\":\"").append(LocalTime.of(9, 0).plusMinutes(30L * slot))
+                    .append("\",\"reason\":\"Outreach campaign\"}\n");
+        }
+        AppointmentImportReport report = importService.importAppointments(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)), Format.NDJSON);
+        if (report.getImported() != IMPORT_ROWS) {
+            throw new IllegalStateException("Imported " + report.getImported() + " of " + IMPORT_ROWS + ": "
+                    + report.getRows().stream().filter(r -> r.getError() != null).findFirst().orElse(null));
+        }
+        return report;
+    }
+}
@@ -0,0 +1,36 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.hms.hospital_management_system.service.AppointmentService;
+
+/**
+ * Free slots for the focal doctor on a day that already has ten bookings.
+ */
+@State(Scope.Benchmark)
+public class AvailableSlotsBenchmark extends BenchmarkDefaults {
+
+    private AppointmentService appointmentService;
+    private Long doctorId;
+    private LocalDate date;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        appointmentService = db.bean(AppointmentService.class);
+        doctorId = db.dataset().focalDoctorId();
+        date = db.dataset().today();
+    }
+
+    @Benchmark
+    public List<LocalTime> getAvailableTimeSlots() {
+        return appointmentService.getAvailableTimeSlots(doctorId, date);
+    }
+}
@@ -0,0 +1,39 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes the results as JSON, one timestamped file
+ * per run, so runs can be compared (e.g. with jmh.morethan.io).
+ *
+ * Arguments: include regex, comma-separated row counts, output directory.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*";
+        String[] rows = (args.length > 1 ? args[1] : "10000,100000,1000000").split(",");
+        File outputDir = new File(args.length > 2 ? args[2] : "target/jmh-results");
+        outputDir.mkdirs();
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        File resultFile = new File(outputDir, "jmh-result-" + timestamp + ".json");
+
+        Options options = new OptionsBuilder()
+                .include(BenchmarkRunner.class.getPackageName() + "\\..*(" + include + ").*")
+                .param("rows", rows)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.getAbsolutePath())
+                .build();
+        new Runner(options).run();
+        System.out.println("Results written to " + resultFile.getAbsolutePath());
+    }
+}
@@ -0,0 +1,117 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hms.hospital_management_system.entity.Appointment;
+import com.hms.hospital_management_system.service.AppointmentService;
+import com.hms.hospital_management_system.service.SlotAvailabilityEngine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sixteen threads booking overlapping times for three doctors on the same two
+ * days, in booking attempts per second. Each iteration books fresh days past
+ * the seeded data and fails if any doctor ends up double booked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+@Slf4j
+public class BookingContentionBenchmark extends BenchmarkDefaults {
+
+    private static final int DOCTORS = 3;
+    private static final int DAYS = 2;
+    // Start times every five minutes from 09:00 to 16:55, so most attempts overlap another
+    private static final int START_TIMES = 96;
+
+    private AppointmentService appointmentService;
+    private JdbcTemplate jdbcTemplate;
+    private long patientId;
+    private LocalDate firstDay;
+    private int iteration;
+    private volatile LocalDate iterationDay;
+
+    private final AtomicLong booked = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private record Booking(long doctorId, LocalDate date, LocalTime time) {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        appointmentService = db.bean(AppointmentService.class);
+        jdbcTemplate = db.bean(JdbcTemplate.class);
+        patientId = db.dataset().focalPatientId();
+        firstDay = db.dataset().today().plusYears(1);
+    }
+
+    @Setup(Level.Iteration)
+    public void nextDays() {
+        iterationDay = firstDay.plusDays((long) iteration++ * DAYS);
+        booked.set(0);
+        rejected.set(0);
+    }
+
+    @Benchmark
+    public boolean book() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Appointment appointment = Appointment.builder()
+                .appointmentDate(iterationDay.plusDays(random.nextInt(DAYS)))
+                .appointmentTime(LocalTime.of(9, 0).plusMinutes(5L * random.nextInt(START_TIMES)))
+                .reason("Booking contention benchmark")
+                .build();
+        try {
+            appointmentService.createAppointment(appointment, patientId, 1L + random.nextInt(DOCTORS));
+            booked.incrementAndGet();
+            return true;
+        } catch (RuntimeException e) {
+            if (e.getMessage() == null || !e.getMessage().startsWith("Appointment conflict")) {
+                throw e;
+            }
+            rejected.incrementAndGet();
+            return false;
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyNoDoubleBookings() {
+        List<Booking> bookings = jdbcTemplate.query(
+                "SELECT doctor_id, appointment_date, appointment_time FROM appointment " +
+                "WHERE appointment_date BETWEEN ? AND ? AND status NOT IN ('CANCELLED', 'NO_SHOW') " +
+                "ORDER BY doctor_id, appointment_date, appointment_time",
+                (rs, i) -> new Booking(rs.getLong(1), rs.getDate(2).toLocalDate(), rs.getTime(3).toLocalTime()),
+                iterationDay, iterationDay.plusDays(DAYS - 1L));
+
+        int overlaps = 0;
+        for (int i = 1; i < bookings.size(); i++) {
+            Booking previous = bookings.get(i - 1);
+            Booking current = bookings.get(i);
+            if (previous.doctorId() == current.doctorId() && previous.date().equals(current.date())
+                    && previous.time().plusMinutes(SlotAvailabilityEngine.DEFAULT_SLOT_MINUTES).isAfter(current.time())) {
+                overlaps++;
+            }
+        }
+        log.info("Booked {}, rejected {} as conflicts, {} overlapping bookings", booked.get(), rejected.get(), overlaps);
+        if (overlaps > 0) {
+            throw new IllegalStateException(overlaps + " double bookings for " + iterationDay);
+        }
+    }
+}
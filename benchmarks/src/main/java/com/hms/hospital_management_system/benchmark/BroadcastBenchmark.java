@@ -0,0 +1,70 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hms.hospital_management_system.dto.BroadcastRequest;
+import com.hms.hospital_management_system.entity.User.Role;
+import com.hms.hospital_management_system.service.NotificationService;
+
+/**
+ * Broadcast to every nurse in one department: 5,000 nurses there, and 1,000
+ * more in another department who must not receive it. Fails if the recipient
+ * count is off.
+ */
+@State(Scope.Benchmark)
+public class BroadcastBenchmark extends BenchmarkDefaults {
+
+    private static final int NURSES = 5_000;
+    private static final int OTHER_NURSES = 1_000;
+    private static final long DEPARTMENT_ID = 1L;
+    private static final long OTHER_DEPARTMENT_ID = 2L;
+
+    private NotificationService notificationService;
+    private BroadcastRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        notificationService = db.bean(NotificationService.class);
+        JdbcTemplate jdbcTemplate = db.bean(JdbcTemplate.class);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> staff = new ArrayList<>();
+        for (int i = 0; i < NURSES + OTHER_NURSES; i++) {
+            String email = "bench-nurse-" + i + "@hospital.com";
+            users.add(new Object[] { email, "Nurse", String.valueOf(i), now });
+            staff.add(new Object[] { "Nurse", String.valueOf(i), email,
+                    i < NURSES ? DEPARTMENT_ID : OTHER_DEPARTMENT_ID, now });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password, first_name, last_name, role, is_active, " +
+                "created_at) VALUES (?, '{noop}benchmark', ?, ?, 'NURSE', TRUE, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO staff (first_name, last_name, email, role, department_id, status, " +
+                "created_at) VALUES (?, ?, ?, 'NURSE', ?, 'ACTIVE', ?)", staff);
+
+        request = BroadcastRequest.builder()
+                .role(Role.NURSE)
+                .departmentId(DEPARTMENT_ID)
+                .title("Ward protocol update")
+                .message("Updated hand-off checklist is in effect from the next shift.")
+                .build();
+    }
+
+    @Benchmark
+    public int broadcast() {
+        int recipients = notificationService.broadcastNotification(request);
+        if (recipients != NURSES) {
+            throw new IllegalStateException("Broadcast reached " + recipients + " nurses, expected " + NURSES);
+        }
+        return recipients;
+    }
+}
@@ -0,0 +1,110 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hms.hospital_management_system.service.MessageService;
+import com.hms.hospital_management_system.service.NotificationService;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A user back from leave with 5,000 unread notifications and 5,000 unread
+ * messages from one colleague marks both as read. Everything is unread again
+ * before each call. Each call fails unless every item was updated, and each
+ * iteration logs the statements Hibernate prepared per call.
+ */
+@State(Scope.Benchmark)
+@Slf4j
+public class BulkReadStateBenchmark extends BenchmarkDefaults {
+
+    private static final int UNREAD = 5_000;
+    // Two updates, plus headroom for the unread counter recount that may land in the window
+    private static final long MAX_STATEMENTS_PER_CALL = 6;
+
+    private NotificationService notificationService;
+    private MessageService messageService;
+    private JdbcTemplate jdbcTemplate;
+    private Statistics statistics;
+    private long readerId;
+    private long colleagueId;
+
+    private long calls;
+    private long statements;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        notificationService = db.bean(NotificationService.class);
+        messageService = db.bean(MessageService.class);
+        jdbcTemplate = db.bean(JdbcTemplate.class);
+        statistics = db.bean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        colleagueId = db.dataset().focalUserId();
+
+        jdbcTemplate.update("INSERT INTO users (email, password, first_name, last_name, role, is_active, created_at) " +
+                "VALUES ('bench-returning@hospital.com', '{noop}benchmark', 'Back', 'FromLeave', 'DOCTOR', TRUE, ?)",
+                Timestamp.valueOf(LocalDateTime.now()));
+        readerId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = 'bench-returning@hospital.com'", Long.class);
+
+        Timestamp sentAt = Timestamp.valueOf(LocalDateTime.now().minusDays(14));
+        List<Object[]> notifications = new ArrayList<>(UNREAD);
+        List<Object[]> messages = new ArrayList<>(UNREAD);
+        for (int i = 0; i < UNREAD; i++) {
+            notifications.add(new Object[] { readerId, "Update " + i, sentAt });
+            messages.add(new Object[] { colleagueId, readerId, "While you were away " + i, sentAt });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO notification (user_id, title, message, notification_type, is_read, " +
+                "sent_at) VALUES (?, ?, 'Benchmark notification', 'GENERAL', FALSE, ?)", notifications);
+        jdbcTemplate.batchUpdate("INSERT INTO message (sender_id, receiver_id, content, is_read, sent_at) " +
+                "VALUES (?, ?, ?, FALSE, ?)", messages);
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Setup(Level.Invocation)
+    public void markUnread() {
+        jdbcTemplate.update("UPDATE notification SET is_read = FALSE WHERE user_id = ?", readerId);
+        jdbcTemplate.update("UPDATE message SET is_read = FALSE WHERE receiver_id = ?", readerId);
+    }
+
+    @Benchmark
+    public int markEverythingRead() {
+        long before = statistics.getPrepareStatementCount();
+        int updated = notificationService.markAllAsRead(readerId)
+                + messageService.markConversationAsRead(readerId, colleagueId);
+        statements += statistics.getPrepareStatementCount() - before;
+        calls++;
+        if (updated != 2 * UNREAD) {
+            throw new IllegalStateException("Marked " + updated + " of " + 2 * UNREAD + " items read");
+        }
+        return updated;
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyStatements() {
+        double perCall = calls == 0 ? 0 : (double) statements / calls;
+        log.info("{} statements per call to mark {} items read", String.format("%.1f", perCall), 2 * UNREAD);
+        if (perCall > MAX_STATEMENTS_PER_CALL) {
+            throw new IllegalStateException(perCall + " statements per call");
+        }
+        calls = 0;
+        statements = 0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.hms.hospital_management_system.dto.MessageDTO.ConversationDTO;
+import com.hms.hospital_management_system.service.MessageService;
+
+/**
+ * Conversation list for the focal user, who talks to every seeded partner.
+ */
+@State(Scope.Benchmark)
+public class ConversationsBenchmark extends BenchmarkDefaults {
+
+    private MessageService messageService;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        messageService = db.bean(MessageService.class);
+        userId = db.dataset().focalUserId();
+    }
+
+    @Benchmark
+    public List<ConversationDTO> getConversations() {
+        return messageService.getConversations(userId);
+    }
+}
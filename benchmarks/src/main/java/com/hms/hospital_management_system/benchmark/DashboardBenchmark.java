@@ -0,0 +1,29 @@
+package com.hms.hospital_management_system.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.hms.hospital_management_system.dto.DashboardStats;
+import com.hms.hospital_management_system.service.DashboardService;
+
+/**
+ * Admin dashboard, the heaviest read path: summary tiles, charts and lists.
+ */
+@State(Scope.Benchmark)
+public class DashboardBenchmark extends BenchmarkDefaults {
+
+    private DashboardService dashboardService;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        dashboardService = db.bean(DashboardService.class);
+    }
+
+    @Benchmark
+    public DashboardStats getDashboardStats() {
+        return dashboardService.getDashboardStats();
+    }
+}
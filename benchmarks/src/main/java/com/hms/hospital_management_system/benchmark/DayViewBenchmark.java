@@ -0,0 +1,35 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.hms.hospital_management_system.repository.AppointmentRepository.AppointmentSummary;
+import com.hms.hospital_management_system.service.AppointmentService;
+
+/**
+ * Calendar day view over all doctors: the appointment summaries of one day
+ * (roughly rows / 200 appointments), read with a single join query.
+ */
+@State(Scope.Benchmark)
+public class DayViewBenchmark extends BenchmarkDefaults {
+
+    private AppointmentService appointmentService;
+    private LocalDate date;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        appointmentService = db.bean(AppointmentService.class);
+        date = db.dataset().today().minusDays(1);
+    }
+
+    @Benchmark
+    public List<AppointmentSummary> getDaySummaries() {
+        return appointmentService.getAppointmentSummaries(null, null, date);
+    }
+}
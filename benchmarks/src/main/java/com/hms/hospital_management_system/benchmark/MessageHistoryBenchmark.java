@@ -0,0 +1,118 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hms.hospital_management_system.dto.CursorPage;
+import com.hms.hospital_management_system.dto.MessageDTO;
+import com.hms.hospital_management_system.service.MessageService;
+import com.hms.hospital_management_system.util.TimestampCursor;
+
+/**
+ * Opening a care-team thread with 30,000 messages, three to a second so
+ * timestamps tie. Compares the newest page with loading the whole history.
+ * Setup walks the thread page by page in both directions and fails on any
+ * gap, duplicate or out-of-order message.
+ */
+@State(Scope.Benchmark)
+public class MessageHistoryBenchmark extends BenchmarkDefaults {
+
+    private static final int THREAD_MESSAGES = 30_000;
+    private static final int PAGE_SIZE = 50;
+
+    private MessageService messageService;
+    private long userId;
+    private long colleagueId;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        messageService = db.bean(MessageService.class);
+        JdbcTemplate jdbcTemplate = db.bean(JdbcTemplate.class);
+        userId = db.dataset().focalUserId();
+
+        jdbcTemplate.update("INSERT INTO users (email, password, first_name, last_name, role, is_active, created_at) " +
+                "VALUES ('bench-care-team@hospital.com', '{noop}benchmark', 'Care', 'Team', 'NURSE', TRUE, ?)",
+                Timestamp.valueOf(LocalDateTime.now()));
+        colleagueId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = 'bench-care-team@hospital.com'", Long.class);
+
+        LocalDateTime start = LocalDateTime.now().minusYears(1).withNano(0);
+        List<Object[]> rows = new ArrayList<>(THREAD_MESSAGES);
+        for (int i = 0; i < THREAD_MESSAGES; i++) {
+            boolean fromUser = i % 2 == 0;
+            rows.add(new Object[] { fromUser ? userId : colleagueId, fromUser ? colleagueId : userId,
+                    "Handover note " + i, Timestamp.valueOf(start.plusSeconds(i / 3)) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO message (sender_id, receiver_id, content, is_read, sent_at) " +
+                "VALUES (?, ?, ?, TRUE, ?)", rows);
+
+        int total = messageService.getConversation(userId, colleagueId).size();
+        MessageDTO oldest = walk(total, null);
+        walk(total, oldest);
+    }
+
+    /**
+     * Walks the whole thread: back from the newest page when {@code from} is
+     * null, otherwise forward from that message. Returns the last message seen.
+     */
+    private MessageDTO walk(int total, MessageDTO from) {
+        boolean forward = from != null;
+        Set<Long> seen = new HashSet<>();
+        MessageDTO previous = from;
+        String cursor = null;
+        if (forward) {
+            seen.add(from.getId());
+            cursor = new TimestampCursor(from.getSentAt(), from.getId()).encode();
+        }
+        do {
+            CursorPage<MessageDTO> page = forward
+                    ? messageService.getConversationPage(userId, colleagueId, null, cursor, PAGE_SIZE)
+                    : messageService.getConversationPage(userId, colleagueId, cursor, null, PAGE_SIZE);
+            List<MessageDTO> items = new ArrayList<>(page.getItems());
+            if (!forward) {
+                Collections.reverse(items);
+            }
+            for (MessageDTO message : items) {
+                if (!seen.add(message.getId())) {
+                    throw new IllegalStateException("Message " + message.getId() + " returned twice");
+                }
+                if (previous != null && forward == isBefore(message, previous)) {
+                    throw new IllegalStateException("Message " + message.getId() + " out of order");
+                }
+                previous = message;
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        if (seen.size() != total) {
+            throw new IllegalStateException("Walked " + seen.size() + " of " + total + " messages");
+        }
+        return previous;
+    }
+
+    private static boolean isBefore(MessageDTO a, MessageDTO b) {
+        int bySentAt = a.getSentAt().compareTo(b.getSentAt());
+        return bySentAt < 0 || (bySentAt == 0 && a.getId() < b.getId());
+    }
+
+    @Benchmark
+    public CursorPage<MessageDTO> newestPage() {
+        return messageService.getConversationPage(userId, colleagueId, null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<MessageDTO> fullHistory() {
+        return messageService.getConversation(userId, colleagueId);
+    }
+}
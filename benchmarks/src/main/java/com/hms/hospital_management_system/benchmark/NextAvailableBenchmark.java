@@ -0,0 +1,34 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.hms.hospital_management_system.dto.NextAvailableSlot;
+import com.hms.hospital_management_system.service.AppointmentService;
+
+/**
+ * Earliest free hour with any doctor of the focal doctor's department over
+ * the next two weeks, the triage "first available neurologist" query.
+ */
+@State(Scope.Benchmark)
+public class NextAvailableBenchmark extends BenchmarkDefaults {
+
+    private static final long DEPARTMENT_ID = 1L;
+
+    private AppointmentService appointmentService;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        appointmentService = db.bean(AppointmentService.class);
+    }
+
+    @Benchmark
+    public Optional<NextAvailableSlot> findNextAvailable() {
+        return appointmentService.findNextAvailable(DEPARTMENT_ID, null, null, 60, 14);
+    }
+}
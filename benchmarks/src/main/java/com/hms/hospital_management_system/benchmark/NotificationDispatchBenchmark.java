@@ -0,0 +1,112 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hms.hospital_management_system.service.NotificationDispatcher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Schedules 10,000 reminders due over the next 200 ms and waits until all are
+ * marked sent. Time per call is therefore about 200 ms plus the dispatch lag;
+ * the call fails if any reminder is sent early or more than a second late.
+ */
+@State(Scope.Benchmark)
+@Slf4j
+public class NotificationDispatchBenchmark extends BenchmarkDefaults {
+
+    private static final int REMINDERS = 10_000;
+    private static final int SPREAD_MILLIS = 200;
+
+    private NotificationDispatcher dispatcher;
+    private JdbcTemplate jdbcTemplate;
+    private long userId;
+    private int invocation;
+
+    private String title;
+    private List<Long> ids;
+    private List<LocalDateTime> dueTimes;
+
+    private record Sent(LocalDateTime scheduledFor, LocalDateTime sentAt) {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        dispatcher = db.bean(NotificationDispatcher.class);
+        jdbcTemplate = db.bean(JdbcTemplate.class);
+        userId = db.dataset().focalUserId();
+    }
+
+    @Setup(Level.Invocation)
+    public void createReminders() {
+        title = "Dispatch benchmark " + invocation++;
+        LocalDateTime farFuture = LocalDateTime.now().plusYears(10);
+        List<Object[]> rows = new ArrayList<>(REMINDERS);
+        for (int i = 0; i < REMINDERS; i++) {
+            rows.add(new Object[] { userId, title, "Reminder " + i, Timestamp.valueOf(farFuture) });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO notification (user_id, title, message, notification_type, " +
+                "is_read, scheduled_for) VALUES (?, ?, ?, 'APPOINTMENT_REMINDER', FALSE, ?)", rows);
+        // One batch from one connection, so the ids are consecutive
+        ids = jdbcTemplate.queryForList("SELECT id FROM notification WHERE title = ? ORDER BY id", Long.class, title);
+    }
+
+    @Benchmark
+    public int dispatch() throws InterruptedException {
+        // Handed straight to the dispatcher, as NotificationService does after commit; the rows keep a far-future time
+        LocalDateTime start = LocalDateTime.now();
+        dueTimes = new ArrayList<>(REMINDERS);
+        for (int i = 0; i < REMINDERS; i++) {
+            LocalDateTime due = start.plusNanos((long) i * SPREAD_MILLIS * 1_000_000 / REMINDERS);
+            dueTimes.add(due);
+        }
+        for (int i = 0; i < REMINDERS; i++) {
+            dispatcher.schedule(ids.get(i), dueTimes.get(i));
+        }
+
+        int unsent;
+        do {
+            Thread.sleep(1);
+            unsent = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM notification WHERE id BETWEEN ? AND ? AND sent_at IS NULL",
+                    Integer.class, ids.get(0), ids.get(REMINDERS - 1));
+        } while (unsent > 0);
+        return REMINDERS;
+    }
+
+    @TearDown(Level.Invocation)
+    public void verifyTiming() {
+        List<LocalDateTime> sentAt = jdbcTemplate.query(
+                "SELECT sent_at FROM notification WHERE id BETWEEN ? AND ? ORDER BY id",
+                (rs, i) -> rs.getTimestamp(1).toLocalDateTime(), ids.get(0), ids.get(REMINDERS - 1));
+        List<Sent> sent = new ArrayList<>(REMINDERS);
+        for (int i = 0; i < REMINDERS; i++) {
+            sent.add(new Sent(dueTimes.get(i), sentAt.get(i)));
+        }
+        long[] lagMillis = sent.stream()
+                .mapToLong(s -> Duration.between(s.scheduledFor(), s.sentAt()).toMillis())
+                .sorted()
+                .toArray();
+        long p50 = lagMillis[lagMillis.length / 2];
+        long p99 = lagMillis[lagMillis.length * 99 / 100];
+        long min = lagMillis[0];
+        long max = lagMillis[lagMillis.length - 1];
+        log.info("Dispatch lag over {} reminders: min {} ms, p50 {} ms, p99 {} ms, max {} ms",
+                lagMillis.length, min, p50, p99, max);
+        if (min < 0 || max > 1_000) {
+            throw new IllegalStateException("Reminders sent " + min + " to " + max + " ms after their due time");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hms.hospital_management_system.dto.NotificationArchiveReport;
+import com.hms.hospital_management_system.service.NotificationRetentionService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Archives two years of history: 40,000 notifications created 6 to 30
+ * months ago, three quarters of them read. Fails unless exactly the read
+ * ones move. Logs rows moved per second.
+ */
+@State(Scope.Benchmark)
+@Slf4j
+public class NotificationRetentionBenchmark extends BenchmarkDefaults {
+
+    private static final int NOTIFICATIONS = 40_000;
+    private static final int RETENTION_DAYS = 180;
+
+    private NotificationRetentionService retentionService;
+    private JdbcTemplate jdbcTemplate;
+    private long userId;
+    private int expectedMoved;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        retentionService = db.bean(NotificationRetentionService.class);
+        jdbcTemplate = db.bean(JdbcTemplate.class);
+        userId = db.dataset().focalUserId();
+    }
+
+    @Setup(Level.Invocation)
+    public void createHistory() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(NOTIFICATIONS);
+        expectedMoved = 0;
+        for (int i = 0; i < NOTIFICATIONS; i++) {
+            boolean read = i % 4 != 0;
+            if (read) {
+                expectedMoved++;
+            }
+            Timestamp createdAt = Timestamp.valueOf(now.minusDays(RETENTION_DAYS + 1 + i % 730).minusMinutes(i));
+            rows.add(new Object[] { userId, "History " + i, read, createdAt, createdAt, createdAt });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO notification (user_id, title, message, notification_type, is_read, " +
+                "sent_at, created_at, updated_at) VALUES (?, ?, 'Old notification', 'GENERAL', ?, ?, ?, ?)", rows);
+    }
+
+    @Benchmark
+    public NotificationArchiveReport archive() {
+        NotificationArchiveReport report = retentionService.archiveReadBefore(LocalDateTime.now().minusDays(RETENTION_DAYS));
+        long moved = report.getRowsMoved();
+        if (moved != expectedMoved) {
+            throw new IllegalStateException("Archived " + moved + " notifications, expected " + expectedMoved);
+        }
+        log.info("Archived {} notifications in {} chunks, {} rows/s", moved, report.getChunks(),
+                report.getRowsPerSecond());
+        return report;
+    }
+}
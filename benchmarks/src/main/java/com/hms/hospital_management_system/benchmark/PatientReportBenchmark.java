@@ -0,0 +1,61 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hms.hospital_management_system.entity.Appointment;
+import com.hms.hospital_management_system.entity.MedicalRecord;
+import com.hms.hospital_management_system.entity.Patient;
+import com.hms.hospital_management_system.entity.VitalSigns;
+import com.hms.hospital_management_system.repository.AppointmentRepository;
+import com.hms.hospital_management_system.repository.MedicalRecordRepository;
+import com.hms.hospital_management_system.repository.PatientRepository;
+import com.hms.hospital_management_system.repository.VitalSignsRepository;
+import com.hms.hospital_management_system.service.PdfService;
+
+/**
+ * Patient report PDF for the focal patient, loaded the way PdfController does
+ * (one read-only session, lazy associations resolved while rendering).
+ */
+@State(Scope.Benchmark)
+public class PatientReportBenchmark extends BenchmarkDefaults {
+
+    private PdfService pdfService;
+    private PatientRepository patientRepository;
+    private MedicalRecordRepository medicalRecordRepository;
+    private AppointmentRepository appointmentRepository;
+    private VitalSignsRepository vitalSignsRepository;
+    private TransactionTemplate readOnlyTx;
+    private Long patientId;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        pdfService = db.bean(PdfService.class);
+        patientRepository = db.bean(PatientRepository.class);
+        medicalRecordRepository = db.bean(MedicalRecordRepository.class);
+        appointmentRepository = db.bean(AppointmentRepository.class);
+        vitalSignsRepository = db.bean(VitalSignsRepository.class);
+        readOnlyTx = new TransactionTemplate(db.bean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+        patientId = db.dataset().focalPatientId();
+    }
+
+    @Benchmark
+    public byte[] generatePatientReport() {
+        return readOnlyTx.execute(status -> {
+            Patient patient = patientRepository.findById(patientId)
+                    .orElseThrow(() -> new RuntimeException("Patient not found"));
+            List<MedicalRecord> records = medicalRecordRepository.findByPatientIdOrderByRecordDateDesc(patientId);
+            List<Appointment> appointments = appointmentRepository.findByPatientIdOrderByAppointmentDateDesc(patientId);
+            List<VitalSigns> vitalSigns = vitalSignsRepository.findByPatientIdOrderByRecordedAtDesc(patientId);
+            return pdfService.generatePatientReport(patient, records, appointments, vitalSigns);
+        });
+    }
+}
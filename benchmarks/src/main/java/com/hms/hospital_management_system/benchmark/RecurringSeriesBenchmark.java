@@ -0,0 +1,60 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.hms.hospital_management_system.dto.RecurringAppointmentRequest;
+import com.hms.hospital_management_system.dto.RecurringAppointmentRequest.Frequency;
+import com.hms.hospital_management_system.dto.RecurringSeriesResult;
+import com.hms.hospital_management_system.service.AppointmentService;
+
+/**
+ * Books a 52-week weekly series per call. Consecutive calls start on
+ * consecutive days, so seven calls fill a year of distinct dates and the next
+ * seven move on a year; every occurrence must be booked.
+ */
+@State(Scope.Benchmark)
+public class RecurringSeriesBenchmark extends BenchmarkDefaults {
+
+    private static final int OCCURRENCES = 52;
+
+    private AppointmentService appointmentService;
+    private long patientId;
+    private long doctorId;
+    private LocalDate firstDay;
+    private int call;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        appointmentService = db.bean(AppointmentService.class);
+        patientId = db.dataset().focalPatientId();
+        doctorId = db.dataset().focalDoctorId();
+        firstDay = db.dataset().today().plusYears(5);
+    }
+
+    @Benchmark
+    public RecurringSeriesResult bookWeeklySeries() {
+        int n = call++;
+        RecurringAppointmentRequest request = RecurringAppointmentRequest.builder()
+                .patientId(patientId)
+                .doctorId(doctorId)
+                .startDate(firstDay.plusWeeks((long) OCCURRENCES * (n / 7)).plusDays(n % 7))
+                .appointmentTime(LocalTime.of(10, 0))
+                .frequency(Frequency.WEEKLY)
+                .count(OCCURRENCES)
+                .reason("Weekly physiotherapy")
+                .build();
+        RecurringSeriesResult result = appointmentService.bookRecurringSeries(request);
+        if (result.getBooked() != OCCURRENCES) {
+            throw new IllegalStateException("Booked " + result.getBooked() + " of " + OCCURRENCES
+                    + " with " + result.getConflicts() + " conflicts");
+        }
+        return result;
+    }
+}
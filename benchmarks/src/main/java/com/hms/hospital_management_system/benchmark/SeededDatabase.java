@@ -0,0 +1,62 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.time.LocalDate;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hms.hospital_management_system.HospitalManagementSystemApplication;
+import com.hms.hospital_management_system.service.DashboardCounterService;
+import com.hms.hospital_management_system.service.RevenueRollupService;
+
+/**
+ * The backend application context on an embedded database seeded with
+ * {@code rows} appointments. Shared by every thread of a trial; each row
+ * count runs in its own forked JVM.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+
+    private static final long SEED = 20240601L;
+
+    @Param({ "10000", "100000", "1000000" })
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private SyntheticDataGenerator.Dataset dataset;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(HospitalManagementSystemApplication.class)
+                .logStartupInfo(false)
+                .run();
+        dataset = new SyntheticDataGenerator(context.getBean(JdbcTemplate.class), SEED, LocalDate.now())
+                .generate(rows);
+
+        // Seeded through JDBC, so rebuild the pre-aggregates the read paths rely on
+        context.getBean(DashboardCounterService.class).reconcile();
+        context.getBean(RevenueRollupService.class).rebuildAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public SyntheticDataGenerator.Dataset dataset() {
+        return dataset;
+    }
+}
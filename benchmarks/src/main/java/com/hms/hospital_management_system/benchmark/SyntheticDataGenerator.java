@@ -0,0 +1,265 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Seeds the benchmark database with synthetic hospital data through batched
+ * JDBC inserts. Generation is driven by a fixed seed and dates are laid out
+ * relative to {@code today}, so the same row count always produces the same
+ * data set in the same position relative to the services' "now".
+ *
+ * {@code rows} is the number of appointments; the other tables scale from it.
+ * Patient 1, doctor 1 and the first seeded user get a fixed amount of extra
+ * history so per-entity benchmarks measure the same work at every size.
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int DEPARTMENTS = 10;
+    private static final String[] APPOINTMENT_STATUSES = {
+            "SCHEDULED", "SCHEDULED", "CONFIRMED", "COMPLETED", "COMPLETED", "COMPLETED", "CANCELLED", "NO_SHOW"
+    };
+    private static final String[] PAYMENT_STATUSES = { "PENDING", "PAID", "PAID", "PAID", "PARTIAL", "CANCELLED" };
+    private static final String[] PAYMENT_METHODS = { "CASH", "CREDIT_CARD", "DEBIT_CARD", "INSURANCE", "BANK_TRANSFER" };
+    private static final String[] FIRST_NAMES = { "John", "Mary", "Ahmed", "Mei", "Carlos", "Olga", "Kwame", "Priya" };
+    private static final String[] LAST_NAMES = { "Smith", "Nguyen", "Garcia", "Kowalski", "Okafor", "Tanaka", "Silva" };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+    private final LocalDate today;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, long seed, LocalDate today) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+        this.today = today;
+    }
+
+    /**
+     * Ids of the entities the per-entity benchmarks read.
+     */
+    public record Dataset(int rows, long focalPatientId, long focalDoctorId, long focalUserId, LocalDate today) {
+    }
+
+    public Dataset generate(int rows) {
+        long started = System.currentTimeMillis();
+        int doctors = Math.max(10, rows / 2_000);
+        int patients = Math.max(100, rows / 10);
+
+        insertDepartments();
+        insertDoctors(doctors);
+        insertPatients(patients);
+        insertAppointments(rows, patients, doctors);
+        insertBills(rows / 2, patients);
+        insertMedicalRecords(rows / 20, patients, doctors);
+        insertVitalSigns(rows / 20, patients, doctors);
+        long focalUserId = insertUsersAndMessages(rows / 10);
+
+        log.info("Seeded {} appointments ({} patients, {} doctors) in {} ms",
+                rows, patients, doctors, System.currentTimeMillis() - started);
+        return new Dataset(rows, 1L, 1L, focalUserId, today);
+    }
+
+    private void insertDepartments() {
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 1; i <= DEPARTMENTS; i++) {
+            batch.add(new Object[] { i, "Department " + i, "Floor " + (i % 4 + 1), now() });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO department (id, name, location, created_at) VALUES (?, ?, ?, ?)", batch);
+    }
+
+    private void insertDoctors(int doctors) {
+        String sql = "INSERT INTO doctor (id, first_name, last_name, specialization, department_id, " +
+                "consultation_fee, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 1; i <= doctors; i++) {
+            batch.add(new Object[] { i, firstName(), lastName(), "Specialty " + (i % DEPARTMENTS),
+                    (i - 1) % DEPARTMENTS + 1, 50.0 + random.nextInt(150), now() });
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void insertPatients(int patients) {
+        String sql = "INSERT INTO patient (id, first_name, last_name, date_of_birth, gender, phone, blood_type, " +
+                "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 1; i <= patients; i++) {
+            // Roughly 20% children, 60% adults, 20% elderly; 2% without a date of birth
+            Date dateOfBirth = random.nextInt(50) == 0 ? null : Date.valueOf(today.minusDays(random.nextInt(90 * 365)));
+            batch.add(new Object[] { i, firstName(), lastName(), dateOfBirth, random.nextBoolean() ? "Male" : "Female",
+                    "555-" + (1000 + i % 9000), "O+", Timestamp.valueOf(pastDateTime(365)) });
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void insertAppointments(int rows, int patients, int doctors) {
+        String sql = "INSERT INTO appointment (id, patient_id, doctor_id, appointment_date, appointment_time, status, " +
+                "reason, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>();
+        long id = 1;
+        // Fixed history for the focal patient and a full day for the focal doctor
+        for (int i = 0; i < 25; i++) {
+            batch.add(appointment(id++, 1, 1 + i % doctors, today.minusDays(i * 7L), slot(i)));
+        }
+        for (int i = 0; i < 10; i++) {
+            batch.add(appointment(id++, 2 + random.nextInt(patients - 1), 1, today, slot(i)));
+        }
+        for (; id <= rows; id++) {
+            LocalDate date = today.minusDays(180).plusDays(random.nextInt(211));
+            batch.add(appointment(id, 1 + random.nextInt(patients), 1 + random.nextInt(doctors), date,
+                    slot(random.nextInt(16))));
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private Object[] appointment(long id, long patientId, long doctorId, LocalDate date, LocalTime time) {
+        return new Object[] { id, patientId, doctorId, Date.valueOf(date), Time.valueOf(time),
+                APPOINTMENT_STATUSES[random.nextInt(APPOINTMENT_STATUSES.length)], "Checkup",
+                Timestamp.valueOf(date.atStartOfDay().minusDays(random.nextInt(30))) };
+    }
+
+    private void insertBills(int bills, int patients) {
+        String sql = "INSERT INTO bill (id, patient_id, bill_date, consultation_fee, medicine_cost, total_amount, " +
+                "discount, tax, net_amount, payment_status, payment_method, payment_date, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 1; i <= bills; i++) {
+            LocalDate billDate = today.minusDays(random.nextInt(365));
+            double consultation = 50 + random.nextInt(200);
+            double medicine = random.nextInt(300);
+            double total = consultation + medicine;
+            double tax = Math.round(total * 0.05 * 100) / 100.0;
+            String status = PAYMENT_STATUSES[random.nextInt(PAYMENT_STATUSES.length)];
+            boolean paid = "PAID".equals(status);
+            batch.add(new Object[] { i, 1 + random.nextInt(patients), Date.valueOf(billDate), consultation, medicine,
+                    total, 0.0, tax, total + tax, status,
+                    paid ? PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)] : null,
+                    paid ? Date.valueOf(billDate) : null, Timestamp.valueOf(billDate.atTime(10, 0)) });
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void insertMedicalRecords(int records, int patients, int doctors) {
+        String sql = "INSERT INTO medical_record (id, patient_id, doctor_id, record_date, diagnosis, symptoms, " +
+                "treatment, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 1; i <= records + 10; i++) {
+            long patientId = i <= 10 ? 1 : 1 + random.nextInt(patients);
+            LocalDate recordDate = today.minusDays(random.nextInt(365));
+            batch.add(new Object[] { i, patientId, 1 + random.nextInt(doctors), Date.valueOf(recordDate),
+                    "Diagnosis " + random.nextInt(500), "Symptoms", "Treatment plan", now() });
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void insertVitalSigns(int vitals, int patients, int doctors) {
+        String sql = "INSERT INTO vital_signs (id, patient_id, recorded_by_doctor_id, recorded_at, " +
+                "blood_pressure_systolic, blood_pressure_diastolic, heart_rate, oxygen_saturation, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 1; i <= vitals + 10; i++) {
+            long patientId = i <= 10 ? 1 : 1 + random.nextInt(patients);
+            batch.add(new Object[] { i, patientId, 1 + random.nextInt(doctors), Timestamp.valueOf(pastDateTime(365)),
+                    100 + random.nextInt(50), 60 + random.nextInt(30), 55 + random.nextInt(50),
+                    90 + random.nextInt(10), now() });
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    /**
+     * Seeds message partners and messages; returns the focal user, who has a
+     * conversation with every partner.
+     */
+    private long insertUsersAndMessages(int messages) {
+        int partners = Math.min(500, Math.max(20, messages / 200));
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i <= partners; i++) {
+            String role = i == 0 ? "DOCTOR" : (i % 3 == 0 ? "NURSE" : "PATIENT");
+            users.add(new Object[] { "bench-user-" + i + "@hospital.com", "{noop}benchmark", firstName(), lastName(),
+                    role, true, now() });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password, first_name, last_name, role, is_active, " +
+                "created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE 'bench-user-%' ORDER BY id", Long.class);
+        long focalUserId = userIds.get(0);
+
+        String sql = "INSERT INTO message (sender_id, receiver_id, content, is_read, sent_at) VALUES (?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < messages; i++) {
+            long a;
+            long b;
+            if (i < partners || random.nextInt(5) == 0) {
+                // Every partner talks to the focal user at least once
+                a = focalUserId;
+                b = userIds.get(1 + (i < partners ? i : random.nextInt(partners)));
+            } else {
+                a = userIds.get(1 + random.nextInt(partners));
+                b = userIds.get(1 + random.nextInt(partners));
+                if (a == b) {
+                    continue;
+                }
+            }
+            boolean outgoing = random.nextBoolean();
+            batch.add(new Object[] { outgoing ? a : b, outgoing ? b : a, "Message " + i, random.nextInt(4) != 0,
+                    Timestamp.valueOf(pastDateTime(90)) });
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+        return focalUserId;
+    }
+
+    // ========== Helpers ==========
+
+    private void flushIfFull(String sql, List<Object[]> batch) {
+        if (batch.size() >= BATCH_SIZE) {
+            flush(sql, batch);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+            batch.clear();
+        }
+    }
+
+    private LocalTime slot(int index) {
+        return LocalTime.of(9, 0).plusMinutes(30L * (index % 16));
+    }
+
+    private LocalDateTime pastDateTime(int maxDays) {
+        return today.minusDays(random.nextInt(maxDays)).atTime(8 + random.nextInt(10), random.nextInt(60));
+    }
+
+    private Timestamp now() {
+        return Timestamp.valueOf(today.atTime(12, 0));
+    }
+
+    private String firstName() {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+    }
+
+    private String lastName() {
+        return LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+}
@@ -0,0 +1,44 @@
+package com.hms.hospital_management_system.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.hms.hospital_management_system.repository.MessageRepository;
+import com.hms.hospital_management_system.service.MessageService;
+import com.hms.hospital_management_system.service.NotificationService;
+
+/**
+ * The sidebar's unread message and notification counts for the focal user,
+ * about a quarter of whose incoming messages are unread. Fails at setup if
+ * the in-memory count disagrees with the table.
+ */
+@State(Scope.Benchmark)
+public class UnreadCountBenchmark extends BenchmarkDefaults {
+
+    private MessageService messageService;
+    private NotificationService notificationService;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        messageService = db.bean(MessageService.class);
+        notificationService = db.bean(NotificationService.class);
+        userId = db.dataset().focalUserId();
+
+        long expected = db.bean(MessageRepository.class).countByReceiverIdAndIsReadFalse(userId);
+        long cached = messageService.getUnreadCount(userId);
+        if (cached != expected) {
+            throw new IllegalStateException("Cached unread count " + cached + ", table has " + expected);
+        }
+    }
+
+    @Benchmark
+    public void sidebarCounts(Blackhole blackhole) {
+        blackhole.consume(messageService.getUnreadCount(userId));
+        blackhole.consume(notificationService.countUnreadNotifications(userId));
+    }
+}
@@ -0,0 +1,149 @@
+package com.hms.hospital_management_system.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hms.hospital_management_system.dto.WaitlistMetrics;
+import com.hms.hospital_management_system.dto.WaitlistRequest;
+import com.hms.hospital_management_system.entity.Appointment.AppointmentStatus;
+import com.hms.hospital_management_system.service.AppointmentBatchWriter;
+import com.hms.hospital_management_system.service.AppointmentBatchWriter.NewAppointment;
+import com.hms.hospital_management_system.service.AppointmentService;
+import com.hms.hospital_management_system.service.WaitlistService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sixteen threads cancel every appointment of three fully booked doctors on
+ * one day at once; each freed slot must be backfilled from that day's
+ * waitlist. Time per call covers the cancellations and every backfill; the
+ * call fails unless all 48 slots are filled with no slot or waitlist entry
+ * assigned twice.
+ */
+@State(Scope.Benchmark)
+@Slf4j
+public class WaitlistBackfillBenchmark extends BenchmarkDefaults {
+
+    private static final int DOCTORS = 3;
+    private static final int SLOTS = 16; // 09:00-17:00 in half hours
+    private static final int WAITING_PER_DOCTOR = 32;
+
+    private AppointmentService appointmentService;
+    private WaitlistService waitlistService;
+    private AppointmentBatchWriter batchWriter;
+    private JdbcTemplate jdbcTemplate;
+    private ExecutorService cancellers;
+    private long patients;
+    private LocalDate nextDay;
+
+    private LocalDate day;
+    private List<Long> appointmentIds;
+    private long filledBefore;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        appointmentService = db.bean(AppointmentService.class);
+        waitlistService = db.bean(WaitlistService.class);
+        batchWriter = db.bean(AppointmentBatchWriter.class);
+        jdbcTemplate = db.bean(JdbcTemplate.class);
+        cancellers = Executors.newFixedThreadPool(16);
+        patients = Math.max(100, db.dataset().rows() / 10);
+        nextDay = db.dataset().today().plusYears(3);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cancellers.shutdownNow();
+    }
+
+    @Setup(Level.Invocation)
+    public void bookDayAndFillWaitlist() {
+        day = nextDay;
+        nextDay = nextDay.plusDays(1);
+
+        List<NewAppointment> booked = new ArrayList<>();
+        for (long doctorId = 1; doctorId <= DOCTORS; doctorId++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                booked.add(new NewAppointment(1 + (doctorId * SLOTS + slot) % patients, doctorId, day,
+                        LocalTime.of(9, 0).plusMinutes(30L * slot), AppointmentStatus.SCHEDULED,
+                        "Waitlist benchmark", null, null));
+            }
+        }
+        appointmentIds = batchWriter.insert(booked);
+
+        // Half the entries take any time, the rest only mornings or only afternoons
+        for (long doctorId = 1; doctorId <= DOCTORS; doctorId++) {
+            for (int i = 0; i < WAITING_PER_DOCTOR; i++) {
+                boolean windowed = i % 2 == 1;
+                boolean morning = i % 4 == 1;
+                waitlistService.addToWaitlist(WaitlistRequest.builder()
+                        .patientId(1 + (doctorId * 1_000 + i) % patients)
+                        .doctorId(doctorId)
+                        .date(day)
+                        .earliestTime(windowed ? (morning ? LocalTime.of(9, 0) : LocalTime.of(13, 0)) : null)
+                        .latestTime(windowed ? (morning ? LocalTime.of(12, 30) : LocalTime.of(16, 30)) : null)
+                        .priority(i % 3)
+                        .reason("Waitlist benchmark")
+                        .build());
+            }
+        }
+        filledBefore = waitlistService.getMetrics().getFilledSlots();
+    }
+
+    @Benchmark
+    public WaitlistMetrics cancelAndBackfill() throws Exception {
+        List<Future<?>> cancellations = new ArrayList<>();
+        for (Long id : appointmentIds) {
+            cancellations.add(cancellers.submit(
+                    () -> appointmentService.updateAppointmentStatus(id, AppointmentStatus.CANCELLED)));
+        }
+        for (Future<?> cancellation : cancellations) {
+            cancellation.get();
+        }
+        WaitlistMetrics metrics = waitlistService.getMetrics();
+        while (metrics.getPendingBackfills() > 0) {
+            Thread.sleep(1);
+            metrics = waitlistService.getMetrics();
+        }
+        return metrics;
+    }
+
+    @TearDown(Level.Invocation)
+    public void verifyBackfill() {
+        long filled = waitlistService.getMetrics().getFilledSlots() - filledBefore;
+        List<Long> assigned = jdbcTemplate.queryForList(
+                "SELECT appointment_id FROM waitlist_entry WHERE waitlist_date = ? AND status = 'BOOKED'",
+                Long.class, day);
+        List<LocalTime> times = jdbcTemplate.queryForList(
+                "SELECT appointment_time FROM appointment WHERE appointment_date = ? " +
+                "AND status NOT IN ('CANCELLED', 'NO_SHOW') GROUP BY doctor_id, appointment_time " +
+                "HAVING COUNT(*) > 1", LocalTime.class, day);
+        if (filled != DOCTORS * SLOTS || assigned.size() != DOCTORS * SLOTS
+                || new HashSet<>(assigned).size() != assigned.size() || !times.isEmpty()) {
+            throw new IllegalStateException("Backfill of " + day + ": " + filled + " filled, "
+                    + assigned.size() + " entries booked, " + times.size() + " double-booked times");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        WaitlistMetrics metrics = waitlistService.getMetrics();
+        log.info("Waitlist: {} released, {} filled, fill rate {}, average fill {} ms, max {} ms",
+                metrics.getReleasedSlots(), metrics.getFilledSlots(), metrics.getFillRate(),
+                String.format("%.2f", metrics.getAverageFillMillis()), metrics.getMaxFillMillis());
+    }
+}
@@ -29,6 +29,65 @@ async function parseErrorResponse(response) {
   }
 }
 
+// Server-sent events over fetch, since EventSource cannot send the Authorization header.
+// onEvent(name, data) gets each parsed event; onClose(error) runs once the stream ends.
+function openEventStream(endpoint, onEvent, onClose) {
+  const controller = new AbortController();
+  const token = getToken();
+
+  (async () => {
+    try {
+      const response = await fetch(`${API_BASE_URL}${endpoint}`, {
+        headers: {
+          Accept: 'text/event-stream',
+          ...(token && { Authorization: `Bearer ${token}` }),
+        },
+        signal: controller.signal,
+      });
+      if (!response.ok || !response.body) {
+        throw new Error(`Stream failed with status ${response.status}`);
+      }
+
+      const reader = response.body.getReader();
+      const decoder = new TextDecoder();
+      let buffer = '';
+      for (;;) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += decoder.decode(value, { stream: true });
+
+        let boundary;
+        while ((boundary = buffer.search(/\r?\n\r?\n/)) >= 0) {
+          const block = buffer.slice(0, boundary);
+          buffer = buffer.slice(boundary).replace(/^\r?\n\r?\n/, '');
+
+          let name = 'message';
+          const data = [];
+          for (const line of block.split(/\r?\n/)) {
+            if (line.startsWith('event:')) name = line.slice(6).trim();
+            else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''));
+          }
+          if (data.length > 0) {
+            const text = data.join('\n');
+            let parsed = text;
+            try {
+              parsed = JSON.parse(text);
+            } catch {
+              // Plain text payload
+            }
+            onEvent(name, parsed);
+          }
+        }
+      }
+      if (onClose) onClose(null);
+    } catch (error) {
+      if (!controller.signal.aborted && onClose) onClose(error);
+    }
+  })();
+
+  return () => controller.abort();
+}
+
 // Generic fetch wrapper with error handling
 async function fetchApi(endpoint, options = {}) {
   const url = `${API_BASE_URL}${endpoint}`;
@@ -112,6 +171,9 @@ export const api = {
 
   // DELETE request
   delete: (endpoint) => fetchApi(endpoint, { method: 'DELETE' }),
+
+  // Server-sent events stream; returns a function that closes it
+  stream: (endpoint, onEvent, onClose) => openEventStream(endpoint, onEvent, onClose),
 };
 
 export default api;
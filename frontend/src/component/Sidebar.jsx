@@ -39,12 +39,33 @@ const Sidebar = () => {
     if (user) {
       fetchUnreadCount();
       fetchNotificationCount();
-      // Poll for unread messages every 30 seconds
-      const interval = setInterval(() => {
-        fetchUnreadCount();
-        fetchNotificationCount();
-      }, 30000);
-      return () => clearInterval(interval);
+
+      // Counts are pushed when they change; reconnect with backoff if the stream drops
+      let closeStream = null;
+      let retryTimer = null;
+      let retryDelay = 1000;
+      let stopped = false;
+
+      const connect = () => {
+        closeStream = api.stream('/notifications/unread/stream', (event, data) => {
+          if (event === 'counts') {
+            retryDelay = 1000;
+            setUnreadCount(data.messages || 0);
+            setNotificationCount(data.notifications || 0);
+          }
+        }, () => {
+          if (stopped) return;
+          retryTimer = setTimeout(connect, retryDelay);
+          retryDelay = Math.min(retryDelay * 2, 30000);
+        });
+      };
+      connect();
+
+      return () => {
+        stopped = true;
+        clearTimeout(retryTimer);
+        if (closeStream) closeStream();
+      };
     }
   }, [user]);
 
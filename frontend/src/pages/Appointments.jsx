@@ -23,6 +23,8 @@ const Appointments = () => {
   const [searchTerm, setSearchTerm] = useState('');
   const [activeFilters, setActiveFilters] = useState({});
   const [currentSort, setCurrentSort] = useState({ sortBy: '', sortDirection: 'asc' });
+  // Page metadata of the last server-side filter request; null when showing the full list
+  const [filterPage, setFilterPage] = useState(null);
   const [formData, setFormData] = useState({
     patientId: '',
     doctorId: '',
@@ -43,6 +45,7 @@ const Appointments = () => {
     try {
       const data = await api.get('/appointments');
       setAppointments(data);
+      setFilterPage(null);
     } catch (error) {
       console.error('Error fetching appointments:', error);
     } finally {
@@ -161,7 +164,7 @@ const Appointments = () => {
     }
   };
 
-  const fetchFilteredAppointments = async (filters, sort = currentSort) => {
+  const fetchFilteredAppointments = async (filters, sort = currentSort, page = 0) => {
     try {
       setLoading(true);
       const params = new URLSearchParams();
@@ -170,10 +173,13 @@ const Appointments = () => {
       if (filters.startDate) params.append('startDate', filters.startDate);
       if (filters.endDate) params.append('endDate', filters.endDate);
       if (sort.sortBy) params.append('sortBy', sort.sortBy);
-      if (sort.sortDirection) params.append('sortDirection', sort.sortDirection);
+      if (sort.sortDirection) params.append('sortOrder', sort.sortDirection);
+      params.append('page', page);
+      params.append('size', itemsPerPage);
 
       const data = await api.get(`/appointments/filter?${params.toString()}`);
-      setAppointments(data);
+      setAppointments(data.content);
+      setFilterPage({ number: data.number, totalPages: data.totalPages, totalElements: data.totalElements });
       setActiveFilters(filters);
     } catch (error) {
       console.error('Error filtering appointments:', error);
@@ -267,7 +273,10 @@ const Appointments = () => {
   const itemsPerPage = 10;
   const indexOfLastItem = currentPage * itemsPerPage;
   const indexOfFirstItem = indexOfLastItem - itemsPerPage;
-  const paginatedAppointments = filteredAppointments.slice(indexOfFirstItem, indexOfLastItem);
+  // Filter results arrive one page at a time from the server
+  const paginatedAppointments = filterPage
+    ? filteredAppointments
+    : filteredAppointments.slice(indexOfFirstItem, indexOfLastItem);
 
   // Reset page when filters change
   useEffect(() => {
@@ -287,7 +296,7 @@ const Appointments = () => {
               <FiCalendar size={24} />
             </div>
             <div className="stat-info">
-              <span className="stat-value">{appointments.length}</span>
+              <span className="stat-value">{filterPage ? filterPage.totalElements : appointments.length}</span>
               <span className="stat-label">Total</span>
             </div>
           </div>
@@ -428,13 +437,23 @@ const Appointments = () => {
 
         {/* Pagination */}
         {!loading && filteredAppointments.length > 0 && (
-          <Pagination
-            currentPage={currentPage}
-            totalPages={Math.ceil(filteredAppointments.length / itemsPerPage)}
-            onPageChange={setCurrentPage}
-            totalItems={filteredAppointments.length}
-            itemsPerPage={itemsPerPage}
-          />
+          filterPage ? (
+            <Pagination
+              currentPage={filterPage.number + 1}
+              totalPages={filterPage.totalPages}
+              onPageChange={(page) => fetchFilteredAppointments(activeFilters, currentSort, page - 1)}
+              totalItems={filterPage.totalElements}
+              itemsPerPage={itemsPerPage}
+            />
+          ) : (
+            <Pagination
+              currentPage={currentPage}
+              totalPages={Math.ceil(filteredAppointments.length / itemsPerPage)}
+              onPageChange={setCurrentPage}
+              totalItems={filteredAppointments.length}
+              itemsPerPage={itemsPerPage}
+            />
+          )
         )}
 
         {showModal && (
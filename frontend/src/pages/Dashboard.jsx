@@ -16,6 +16,7 @@ import RightPanel from '../component/RightPanel';
 
 // Import API
 import api from '../api/api';
+import { useAuth } from '../context/AuthContext';
 
 // Import CSS
 import '../styles/Dashboard.css';
@@ -23,13 +24,82 @@ import '../styles/Dashboard.css';
 // Colors for pie chart
 const DEPARTMENT_COLORS = ['#0088FE', '#00C49F', '#FFBB28', '#FF8042', '#8884D8', '#82CA9D', '#FFC658'];
 
+// Same length as the server's recent appointments list
+const RECENT_APPOINTMENTS = 5;
+
+// Folds one live-stream delta into the current stats
+const applyDelta = (stats, delta) => {
+  if (!stats) return stats;
+  switch (delta.type) {
+    case 'COUNTERS':
+      return { ...stats, ...delta.changes };
+    case 'APPOINTMENT_UPSERT': {
+      // The list holds the newest appointments: only new ones go on top, edits replace rows in place
+      const rows = stats.recentAppointments || [];
+      const updated = delta.changeType === 'CREATED'
+        ? [delta.appointment, ...rows.filter(a => a.id !== delta.appointment.id)]
+        : rows.map(a => (a.id === delta.appointment.id ? delta.appointment : a));
+      return { ...stats, recentAppointments: updated.slice(0, RECENT_APPOINTMENTS) };
+    }
+    case 'APPOINTMENT_REMOVED':
+      return {
+        ...stats,
+        recentAppointments: (stats.recentAppointments || []).filter(a => a.id !== delta.appointmentId),
+      };
+    default:
+      return stats;
+  }
+};
+
 const Dashboard = () => {
+  const { isAdmin } = useAuth();
   const [loading, setLoading] = useState(true);
   const [stats, setStats] = useState(null);
   const [error, setError] = useState(null);
 
   useEffect(() => {
-    fetchDashboardData();
+    if (!isAdmin()) {
+      fetchDashboardData();
+      return undefined;
+    }
+
+    // Admins get a snapshot and then deltas pushed; reconnect with backoff if the stream drops
+    let closeStream = null;
+    let retryTimer = null;
+    let retryDelay = 1000;
+    let stopped = false;
+    let gotSnapshot = false;
+    let fellBack = false;
+
+    const connect = () => {
+      closeStream = api.stream('/dashboard/stream', (event, data) => {
+        if (event === 'snapshot') {
+          gotSnapshot = true;
+          retryDelay = 1000;
+          setStats(data);
+          setError(null);
+          setLoading(false);
+        } else if (event === 'delta') {
+          setStats(prev => applyDelta(prev, data));
+        }
+      }, () => {
+        if (stopped) return;
+        // Never connected: show the one-off stats while retrying
+        if (!gotSnapshot && !fellBack) {
+          fellBack = true;
+          fetchDashboardData();
+        }
+        retryTimer = setTimeout(connect, retryDelay);
+        retryDelay = Math.min(retryDelay * 2, 30000);
+      });
+    };
+    connect();
+
+    return () => {
+      stopped = true;
+      clearTimeout(retryTimer);
+      if (closeStream) closeStream();
+    };
   }, []);
 
   const fetchDashboardData = async () => {
@@ -82,12 +152,16 @@ const Dashboard = () => {
     }));
   };
 
+  const getStatusCount = (status) =>
+    stats?.appointmentsByStatus?.find(s => s.status === status)?.count || 0;
+
   const getStatsCards = () => {
     if (!stats) return [];
+    const scheduledCount = getStatusCount('SCHEDULED');
     return [
       {
         title: 'Total Patients',
-        value: stats.patientOverview?.totalPatients?.toLocaleString() || '0',
+        value: stats.totalPatients?.toLocaleString() || '0',
         icon: <FiUsers />,
         trend: '+12%',
         trendUp: true
@@ -101,16 +175,16 @@ const Dashboard = () => {
       },
       {
         title: "Today's Appointments",
-        value: stats.todaysAppointments?.toString() || '0',
+        value: stats.todayAppointments?.toString() || '0',
         icon: <FiCalendar />,
-        trend: stats.appointmentStatus?.scheduledCount > 0 ? `${stats.appointmentStatus?.scheduledCount} scheduled` : '0',
+        trend: scheduledCount > 0 ? `${scheduledCount} scheduled` : '0',
         trendUp: true
       },
       {
         title: 'Total Revenue',
-        value: `$${(stats.revenue?.totalRevenue || 0).toLocaleString()}`,
+        value: `$${(stats.totalRevenue || 0).toLocaleString()}`,
         icon: <FiDollarSign />,
-        trend: `$${(stats.revenue?.pendingPayments || 0).toLocaleString()} pending`,
+        trend: `${stats.pendingBills || 0} bills pending`,
         trendUp: false
       }
     ];
@@ -267,18 +341,34 @@ const Dashboard = () => {
                 <ul className="report-list">
                   <li>
                     <div className="icon-box teal"><FiCalendar/></div> 
-                    Scheduled: {stats?.appointmentStatus?.scheduledCount || 0}
+                    Scheduled: {getStatusCount('SCHEDULED')}
                   </li>
                   <li>
                     <div className="icon-box green"><FiGrid/></div> 
-                    Completed: {stats?.appointmentStatus?.completedCount || 0}
+                    Completed: {getStatusCount('COMPLETED')}
                   </li>
                   <li>
                     <div className="icon-box gray"><FiSettings/></div> 
-                    Cancelled: {stats?.appointmentStatus?.cancelledCount || 0}
+                    Cancelled: {getStatusCount('CANCELLED')}
                   </li>
                 </ul>
               </div>
+
+              {/* Recent Appointments, kept current by the live stream */}
+              <div className="chart-card">
+                <div className="chart-header">
+                  <h3>Recent Appointments</h3>
+                  <FiMoreHorizontal />
+                </div>
+                <ul className="report-list">
+                  {(stats?.recentAppointments || []).slice(0, RECENT_APPOINTMENTS).map(a => (
+                    <li key={a.id}>
+                      <div className="icon-box teal"><FiCalendar/></div>
+                      {a.patientName} with {a.doctorName}, {a.date} {a.time} ({a.status})
+                    </li>
+                  ))}
+                </ul>
+              </div>
             </div>
           </div>
 
@@ -40,7 +40,7 @@ const DoctorsSchedule = () => {
   const fetchAppointments = async () => {
     try {
       // Backend will automatically filter for doctors and patients
-      const data = await api.get('/appointments');
+      const data = await api.get('/appointments?view=summary');
       setAppointments(data);
     } catch (error) {
       console.error('Error fetching appointments:', error);
@@ -69,7 +69,7 @@ const DoctorsSchedule = () => {
 
   const getAppointmentsForDoctorAndDate = (doctorId, date) => {
     return appointments.filter(apt =>
-      apt.doctor?.id === doctorId &&
+      apt.doctorId === doctorId &&
       apt.appointmentDate === formatDate(date)
     );
   };
@@ -179,7 +179,7 @@ const DoctorsSchedule = () => {
                               style={{ borderLeftColor: getStatusColor(apt.status) }}
                             >
                               <span className="apt-time">{apt.appointmentTime?.substring(0, 5)}</span>
-                              <span className="apt-patient">{apt.patient?.firstName} {apt.patient?.lastName}</span>
+                              <span className="apt-patient">{apt.patientName}</span>
                               <span className="apt-reason">{apt.reason || 'Consultation'}</span>
                             </div>
                           ))}
@@ -14,10 +14,14 @@ const Messages = () => {
   const [searchTerm, setSearchTerm] = useState('');
   const [conversations, setConversations] = useState([]);
   const [messages, setMessages] = useState([]);
+  const [olderCursor, setOlderCursor] = useState(null);
+  const [loadingOlder, setLoadingOlder] = useState(false);
   const [users, setUsers] = useState([]);
   const [loading, setLoading] = useState(true);
   const [showNewMessage, setShowNewMessage] = useState(false);
   const messagesEndRef = useRef(null);
+  // Set while older messages are prepended, so the view stays where the user was reading
+  const keepScrollRef = useRef(false);
 
   useEffect(() => {
     fetchConversations();
@@ -31,6 +35,10 @@ const Messages = () => {
   }, [selectedContact]);
 
   useEffect(() => {
+    if (keepScrollRef.current) {
+      keepScrollRef.current = false;
+      return;
+    }
     scrollToBottom();
   }, [messages]);
 
@@ -62,22 +70,39 @@ const Messages = () => {
     }
   };
 
+  // Opens the thread on its newest page; older pages load on demand
   const fetchMessages = async (partnerId) => {
     try {
-      const data = await api.get(`/messages/conversation/${partnerId}`);
-      setMessages(data);
-      // Mark messages as read
-      data.forEach(msg => {
-        if (!msg.read && msg.senderId !== user?.id) {
-          api.put(`/messages/${msg.id}/read`).catch(console.error);
-        }
-      });
+      const page = await api.get(`/messages/conversation/${partnerId}/page?size=50`);
+      setMessages(page.items);
+      setOlderCursor(page.hasMore ? page.nextCursor : null);
+      // Mark the whole conversation as read in one request
+      if (page.items.some(msg => !msg.isRead && msg.senderId !== user?.id)) {
+        api.put(`/messages/conversation/${partnerId}/read`).catch(console.error);
+      }
     } catch (error) {
       console.error('Error fetching messages:', error);
       toast.error('Failed to load messages');
     }
   };
 
+  const loadOlderMessages = async () => {
+    if (!selectedContact || !olderCursor || loadingOlder) return;
+    try {
+      setLoadingOlder(true);
+      const page = await api.get(
+        `/messages/conversation/${selectedContact.id}/page?size=50&before=${encodeURIComponent(olderCursor)}`);
+      keepScrollRef.current = true;
+      setMessages(prev => [...page.items, ...prev]);
+      setOlderCursor(page.hasMore ? page.nextCursor : null);
+    } catch (error) {
+      console.error('Error loading older messages:', error);
+      toast.error('Failed to load older messages');
+    } finally {
+      setLoadingOlder(false);
+    }
+  };
+
   const handleSendMessage = async () => {
     if (!messageText.trim() || !selectedContact) return;
 
@@ -246,6 +271,11 @@ const Messages = () => {
                 </div>
 
                 <div className="chat-messages">
+                  {olderCursor && (
+                    <button className="load-older" onClick={loadOlderMessages} disabled={loadingOlder}>
+                      {loadingOlder ? 'Loading...' : 'Load earlier messages'}
+                    </button>
+                  )}
                   {messages.length === 0 ? (
                     <div className="no-messages">
                       <p>No messages yet. Start the conversation!</p>
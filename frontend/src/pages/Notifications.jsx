@@ -7,6 +7,9 @@ import '../styles/Pages.css';
 
 const Notifications = () => {
   const [notifications, setNotifications] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [unreadCount, setUnreadCount] = useState(0);
   const [loading, setLoading] = useState(true);
   const [filter, setFilter] = useState('all'); // all, unread, read
 
@@ -14,10 +17,16 @@ const Notifications = () => {
     fetchNotifications();
   }, []);
 
+  // Opens on the newest page; older pages load on demand
   const fetchNotifications = async () => {
     try {
-      const data = await api.get('/notifications');
-      setNotifications(data);
+      const [page, unread] = await Promise.all([
+        api.get('/notifications/scroll?size=50'),
+        api.get('/notifications/unread/count'),
+      ]);
+      setNotifications(page.items);
+      setNextCursor(page.hasMore ? page.nextCursor : null);
+      setUnreadCount(unread.count);
     } catch (error) {
       console.error('Error fetching notifications:', error);
     } finally {
@@ -25,9 +34,25 @@ const Notifications = () => {
     }
   };
 
+  const loadMoreNotifications = async () => {
+    if (!nextCursor || loadingMore) return;
+    try {
+      setLoadingMore(true);
+      const page = await api.get(`/notifications/scroll?size=50&cursor=${encodeURIComponent(nextCursor)}`);
+      setNotifications(prev => [...prev, ...page.items]);
+      setNextCursor(page.hasMore ? page.nextCursor : null);
+    } catch (error) {
+      console.error('Error loading more notifications:', error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const markAsRead = async (id) => {
     try {
       await api.put(`/notifications/${id}/read`, {});
+      const target = notifications.find(n => n.id === id);
+      if (target && !target.isRead) setUnreadCount(count => Math.max(count - 1, 0));
       setNotifications(notifications.map(n =>
         n.id === id ? { ...n, isRead: true } : n
       ));
@@ -40,6 +65,7 @@ const Notifications = () => {
     try {
       await api.put('/notifications/read-all', {});
       setNotifications(notifications.map(n => ({ ...n, isRead: true })));
+      setUnreadCount(0);
     } catch (error) {
       console.error('Error marking all as read:', error);
     }
@@ -48,6 +74,8 @@ const Notifications = () => {
   const deleteNotification = async (id) => {
     try {
       await api.delete(`/notifications/${id}`);
+      const target = notifications.find(n => n.id === id);
+      if (target && !target.isRead) setUnreadCount(count => Math.max(count - 1, 0));
       setNotifications(notifications.filter(n => n.id !== id));
     } catch (error) {
       console.error('Error deleting notification:', error);
@@ -106,7 +134,9 @@ const Notifications = () => {
     return true;
   });
 
-  const unreadCount = notifications.filter(n => !n.isRead).length;
+  // Unread comes from the server so it covers pages not loaded yet
+  const loadedReadCount = notifications.filter(n => n.isRead).length;
+  const moreSuffix = nextCursor ? '+' : '';
 
   if (loading) {
     return (
@@ -133,7 +163,7 @@ const Notifications = () => {
               className={`filter-tab ${filter === 'all' ? 'active' : ''}`}
               onClick={() => setFilter('all')}
             >
-              All ({notifications.length})
+              All ({notifications.length}{moreSuffix})
             </button>
             <button
               className={`filter-tab ${filter === 'unread' ? 'active' : ''}`}
@@ -145,7 +175,7 @@ const Notifications = () => {
               className={`filter-tab ${filter === 'read' ? 'active' : ''}`}
               onClick={() => setFilter('read')}
             >
-              Read ({notifications.length - unreadCount})
+              Read ({loadedReadCount}{moreSuffix})
             </button>
           </div>
           <div className="toolbar-actions">
@@ -162,7 +192,7 @@ const Notifications = () => {
 
         {/* Notifications List */}
         <div className="page-content notifications-content">
-          {filteredNotifications.length === 0 ? (
+          {filteredNotifications.length === 0 && !nextCursor ? (
             <div className="empty-state">
               <FiBell className="empty-icon" />
               <p>No notifications</p>
@@ -214,6 +244,11 @@ const Notifications = () => {
                   </div>
                 </div>
               ))}
+              {nextCursor && (
+                <button className="load-older" onClick={loadMoreNotifications} disabled={loadingMore}>
+                  {loadingMore ? 'Loading...' : 'Load older notifications'}
+                </button>
+              )}
             </div>
           )}
         </div>